@@ -1,6 +1,7 @@
 plugins {
     id("org.openrewrite.build.recipe-library") version "latest.release"
     id("org.openrewrite.build.moderne-source-available-license") version "latest.release"
+    id("me.champeau.jmh") version "0.7.3"
 }
 
 group = "org.openrewrite.recipe"
@@ -16,19 +17,34 @@ recipeDependencies {
 val rewriteVersion = rewriteRecipe.rewriteVersion.get()
 dependencies {
     implementation(platform("org.openrewrite:rewrite-bom:$rewriteVersion"))
+    implementation("org.openrewrite:rewrite-gradle")
     implementation("org.openrewrite:rewrite-java")
+    implementation("org.openrewrite:rewrite-maven")
+    implementation("org.openrewrite:rewrite-properties")
+    implementation("org.openrewrite:rewrite-xml")
+    implementation("org.openrewrite:rewrite-yaml")
     implementation("org.openrewrite.recipe:rewrite-migrate-java:$rewriteVersion")
     implementation("org.openrewrite.recipe:rewrite-java-dependencies:$rewriteVersion")
 
     testImplementation("org.openrewrite:rewrite-java-21")
     testImplementation("org.openrewrite:rewrite-test")
-    testImplementation("org.openrewrite:rewrite-gradle")
-    testImplementation("org.openrewrite:rewrite-maven")
-    testImplementation("org.openrewrite:rewrite-yaml")
-    testImplementation("org.openrewrite:rewrite-properties")
 
     testRuntimeOnly("org.hibernate:hibernate-core:5.6.15.Final")
     testRuntimeOnly("javax.persistence:javax.persistence-api:2.2")
     testRuntimeOnly("javax.xml.bind:jaxb-api:2.3.1")
     testRuntimeOnly("jakarta.persistence:jakarta.persistence-api:3.1.0")
+
+    jmh(platform("org.openrewrite:rewrite-bom:$rewriteVersion"))
+    jmh("org.openrewrite:rewrite-java-21")
+    jmh("org.openjdk.jmh:jmh-core:1.37")
+    jmhAnnotationProcessor("org.openjdk.jmh:jmh-generator-annprocess:1.37")
+}
+
+jmh {
+    includeTests.set(true)
+    fork.set(1)
+    warmupIterations.set(2)
+    iterations.set(3)
+    profilers.add("gc")
+    resultFormat.set("JSON")
 }
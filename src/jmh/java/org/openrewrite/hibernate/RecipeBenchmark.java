@@ -0,0 +1,140 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.hibernate;
+
+import org.openjdk.jmh.annotations.*;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.Recipe;
+import org.openrewrite.RecipeRun;
+import org.openrewrite.SourceFile;
+import org.openrewrite.config.Environment;
+import org.openrewrite.internal.InMemoryLargeSourceSet;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Collections.singletonList;
+
+/**
+ * Runs a single recipe or migration composite over a project from {@link Hibernate5CodebaseGenerator}, parsed once per
+ * trial. Run with {@code ./gradlew jmh}; the gc profiler configured in the build reports the allocation rate next to
+ * the throughput. The project is generated without a build file, so the dependency steps of the composites find
+ * nothing to change, and with Jakarta Persistence imports, so that the recipes matching those have work to do.
+ */
+@State(Scope.Benchmark)
+public class RecipeBenchmark {
+
+    /**
+     * Every recipe of the module that runs without options, Java and declarative alike. Select a subset with
+     * {@code -p recipeName=...} on the JMH command line.
+     */
+    @Param({
+            "org.openrewrite.hibernate.AddScalarPreferStandardBasicTypes",
+            "org.openrewrite.hibernate.ConfigureJdbcBatching",
+            "org.openrewrite.hibernate.EmptyInterceptorToInterface",
+            "org.openrewrite.hibernate.FindLazyAssociationsInLoops",
+            "org.openrewrite.hibernate.MakeToOneAssociationsLazy",
+            "org.openrewrite.hibernate.MigrateBooleanMappings",
+            "org.openrewrite.hibernate.MigrateDialect",
+            "org.openrewrite.hibernate.MigrateHibernateCoordinates60",
+            "org.openrewrite.hibernate.MigrateHibernateGradleCoordinates60",
+            "org.openrewrite.hibernate.MigrateIdentityToSequence",
+            "org.openrewrite.hibernate.MigrateResultCheckStyleToExpectation",
+            "org.openrewrite.hibernate.MigrateSessionMethodNames",
+            "org.openrewrite.hibernate.MigrateToHibernate60",
+            "org.openrewrite.hibernate.MigrateToHibernate61",
+            "org.openrewrite.hibernate.MigrateToHibernate61Changes",
+            "org.openrewrite.hibernate.MigrateToHibernate62",
+            "org.openrewrite.hibernate.MigrateToHibernate62Changes",
+            "org.openrewrite.hibernate.MigrateToHibernate63",
+            "org.openrewrite.hibernate.MigrateToHibernate63Changes",
+            "org.openrewrite.hibernate.MigrateToHibernate64",
+            "org.openrewrite.hibernate.MigrateToHibernate64Changes",
+            "org.openrewrite.hibernate.MigrateToHibernate65",
+            "org.openrewrite.hibernate.MigrateToHibernate65Changes",
+            "org.openrewrite.hibernate.MigrateToHibernate66",
+            "org.openrewrite.hibernate.MigrateToHibernate66Changes",
+            "org.openrewrite.hibernate.MigrateToHibernate70",
+            "org.openrewrite.hibernate.MigrateToHibernate70Changes",
+            "org.openrewrite.hibernate.MigrateToHibernate71",
+            "org.openrewrite.hibernate.MigrateToHibernate71Changes",
+            "org.openrewrite.hibernate.MigrateToHibernateDependencies60",
+            "org.openrewrite.hibernate.MigrateToHypersistenceUtilsHibernate60",
+            "org.openrewrite.hibernate.MigrateToHypersistenceUtilsHibernate62",
+            "org.openrewrite.hibernate.MigrateToHypersistenceUtilsHibernate63",
+            "org.openrewrite.hibernate.MigrateToHypersistenceUtilsHibernate70",
+            "org.openrewrite.hibernate.MigrateToHypersistenceUtilsHibernate71",
+            "org.openrewrite.hibernate.MigrateTypeAnnotations",
+            "org.openrewrite.hibernate.MigrateUserType",
+            "org.openrewrite.hibernate.PinHibernate5IdGeneration",
+            "org.openrewrite.hibernate.RemoveInvalidHibernateGeneratedValueAnnotation",
+            "org.openrewrite.hibernate.ReplaceLazyCollectionAnnotation",
+            "org.openrewrite.hibernate.TypeAnnotationParameter",
+            "org.openrewrite.hibernate.TypeDescriptorToType",
+            "org.openrewrite.hibernate.validator.HibernateValidator_8_0",
+            "org.openrewrite.hibernate.validator.HibernateValidator_9_1",
+            "org.openrewrite.hibernate.validator.MoveValidToContainerElement"
+    })
+    public String recipeName;
+
+    @Param({"100", "1000"})
+    public int entities;
+
+    @Param({"10", "200"})
+    public int fieldsPerEntity;
+
+    private Recipe recipe;
+    private List<SourceFile> sourceFiles;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        recipe = Environment.builder()
+                .scanRuntimeClasspath("org.openrewrite.hibernate")
+                .build()
+                .activateRecipes(recipeName);
+
+        sourceFiles = new Hibernate5CodebaseGenerator(42)
+                .entities(entities)
+                .fieldsPerEntity(fieldsPerEntity)
+                .jakarta()
+                .withoutBuild()
+                .parse(new InMemoryExecutionContext());
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public RecipeRun run() {
+        return recipe.run(new InMemoryLargeSourceSet(sourceFiles), new InMemoryExecutionContext());
+    }
+
+    /**
+     * Runs the recipe over one source file at a time until one of them changes, which is what a user waiting for the
+     * first diff experiences. Scanning recipes only see the file they are run on here.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public int timeToFirstChange() {
+        for (int i = 0; i < sourceFiles.size(); i++) {
+            RecipeRun run = recipe.run(new InMemoryLargeSourceSet(singletonList(sourceFiles.get(i))), new InMemoryExecutionContext());
+            if (!run.getChangeset().getAllResults().isEmpty()) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
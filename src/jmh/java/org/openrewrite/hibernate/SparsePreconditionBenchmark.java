@@ -0,0 +1,94 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.hibernate;
+
+import org.openjdk.jmh.annotations.*;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.SourceFile;
+import org.openrewrite.Tree;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.java.search.FindImplementations;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Evaluates the {@link TypeTablePreconditions#findImplementations(String)} precondition against
+ * {@link FindImplementations} on a project where fewer than 1% of the sources implement the type, which is where the
+ * preconditions of {@link MigrateUserType} and {@link EmptyInterceptorToInterface} spend their time. Every invocation
+ * runs on fresh copies of the compilation units, so the types in use are computed again as they are in the first
+ * recipe of a run that asks for them.
+ */
+@State(Scope.Benchmark)
+public class SparsePreconditionBenchmark {
+
+    @Param({"org.hibernate.usertype.UserType", "org.hibernate.Interceptor"})
+    public String implementedType;
+
+    @Param({"typeTable", "traversal"})
+    public String precondition;
+
+    @Param({"1000"})
+    public int entities;
+
+    /**
+     * One user type and one interceptor per 200 entities, or 5 of each among the 1,018 sources of 1,000 entities.
+     */
+    @Param({"200"})
+    public int entitiesPerSupportClass;
+
+    private TreeVisitor<?, ExecutionContext> visitor;
+    private List<SourceFile> sourceFiles;
+    private List<SourceFile> copies;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        visitor = "typeTable".equals(precondition) ?
+                TypeTablePreconditions.findImplementations(implementedType) :
+                new FindImplementations(implementedType).getVisitor();
+        sourceFiles = new Hibernate5CodebaseGenerator(42)
+                .entities(entities)
+                .entitiesPerSupportClass(entitiesPerSupportClass)
+                .jakarta()
+                .withoutBuild()
+                .parse(new InMemoryExecutionContext());
+    }
+
+    @Setup(Level.Invocation)
+    public void copySourceFiles() {
+        copies = new ArrayList<>(sourceFiles.size());
+        for (SourceFile sourceFile : sourceFiles) {
+            // A new instance starts without the types in use cached by the previous invocation
+            copies.add(sourceFile.withId(Tree.randomId()));
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public int matches() {
+        ExecutionContext ctx = new InMemoryExecutionContext();
+        int matches = 0;
+        for (SourceFile sourceFile : copies) {
+            if (visitor.isAcceptable(sourceFile, ctx) && visitor.visit(sourceFile, ctx) != sourceFile) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.hibernate;
+
+import org.openjdk.jmh.annotations.*;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.Recipe;
+import org.openrewrite.RecipeRun;
+import org.openrewrite.SourceFile;
+import org.openrewrite.config.CompositeRecipe;
+import org.openrewrite.internal.InMemoryLargeSourceSet;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Arrays.asList;
+
+/**
+ * Compares {@link MigrateTypeAnnotations}, which hands every annotation of a compilation unit to both of its handlers
+ * in one walk, with {@link MigrateBooleanMappings} followed by {@link TypeAnnotationParameter}, which it replaced in
+ * {@code MigrateToHibernate60}. Both produce the same changes, so the difference in throughput and allocation rate is
+ * that of the traversals saved.
+ */
+@State(Scope.Benchmark)
+public class TypeAnnotationPassesBenchmark {
+
+    @Param({"fused", "sequential"})
+    public String passes;
+
+    @Param({"100", "1000"})
+    public int entities;
+
+    @Param({"10", "200"})
+    public int fieldsPerEntity;
+
+    private Recipe recipe;
+    private List<SourceFile> sourceFiles;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        recipe = "fused".equals(passes) ?
+                new MigrateTypeAnnotations() :
+                new CompositeRecipe(asList(new MigrateBooleanMappings(), new TypeAnnotationParameter()));
+
+        sourceFiles = new Hibernate5CodebaseGenerator(42)
+                .entities(entities)
+                .fieldsPerEntity(fieldsPerEntity)
+                .jakarta()
+                .withoutBuild()
+                .parse(new InMemoryExecutionContext());
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public RecipeRun run() {
+        return recipe.run(new InMemoryLargeSourceSet(sourceFiles), new InMemoryExecutionContext());
+    }
+}
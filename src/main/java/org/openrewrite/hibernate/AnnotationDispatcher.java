@@ -0,0 +1,105 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.hibernate;
+
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.JavaType;
+import org.openrewrite.java.tree.TypeUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+
+/**
+ * Walks a compilation unit once and hands every annotation to the {@link AnnotationHandler}s registered for its fully
+ * qualified type name, in registration order. Handlers whose precondition the compilation unit does not pass are never
+ * consulted. Chaining handlers this way yields the same result as running their recipes one after the other, as long as
+ * a handler does not depend on changes another one makes to a different annotation.
+ */
+class AnnotationDispatcher extends JavaIsoVisitor<ExecutionContext> {
+
+    private static final String ACTIVE_HANDLERS = "ACTIVE_HANDLERS";
+
+    private final List<AnnotationHandler> handlers;
+
+    AnnotationDispatcher(AnnotationHandler... handlers) {
+        this.handlers = asList(handlers);
+    }
+
+    @Override
+    public J.CompilationUnit visitCompilationUnit(J.CompilationUnit cu, ExecutionContext ctx) {
+        List<AnnotationHandler> active = new ArrayList<>(handlers.size());
+        for (AnnotationHandler handler : handlers) {
+            if (handler.getPrecondition().visit(cu, ctx) != cu) {
+                active.add(handler);
+            }
+        }
+        if (active.isEmpty()) {
+            return cu;
+        }
+        getCursor().putMessage(ACTIVE_HANDLERS, active);
+        return super.visitCompilationUnit(cu, ctx);
+    }
+
+    @Override
+    public J.Package visitPackage(J.Package pkg, ExecutionContext ctx) {
+        J.Package p = super.visitPackage(pkg, ctx);
+        if (p.getAnnotations().isEmpty() && !pkg.getAnnotations().isEmpty()) {
+            // The package keyword moves up to where the removed annotations of a package-info.java started
+            return p.withPrefix(pkg.getAnnotations().get(0).getPrefix());
+        }
+        return p;
+    }
+
+    @Override
+    public J.@Nullable Annotation visitAnnotation(J.Annotation annotation, ExecutionContext ctx) {
+        J.Annotation a = super.visitAnnotation(annotation, ctx);
+        List<AnnotationHandler> active = getCursor().getNearestMessage(ACTIVE_HANDLERS);
+        if (active == null) {
+            return a;
+        }
+        for (AnnotationHandler handler : active) {
+            JavaType.FullyQualified type = TypeUtils.asFullyQualified(a.getType());
+            if (type == null || !handler.getAnnotationTypes().contains(type.getFullyQualifiedName())) {
+                continue;
+            }
+            a = handler.visitAnnotation(this, annotation, a, ctx);
+            if (a == null) {
+                return null;
+            }
+        }
+        return a;
+    }
+
+    /**
+     * @return the import changes of the compilation unit being visited, shared by all handlers.
+     */
+    ImportLedger imports() {
+        return ImportLedger.of(getCursor(), this::doAfterVisit);
+    }
+
+    /**
+     * Exposes {@link #doAfterVisit(TreeVisitor)} to the handlers.
+     */
+    void afterVisit(TreeVisitor<?, ExecutionContext> visitor) {
+        doAfterVisit(visitor);
+    }
+}
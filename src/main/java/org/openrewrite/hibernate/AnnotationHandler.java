@@ -0,0 +1,49 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.hibernate;
+
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.java.tree.J;
+
+import java.util.Set;
+
+/**
+ * The annotation rewriting of a single recipe, extracted so that several recipes can share one traversal of a
+ * compilation unit through an {@link AnnotationDispatcher}.
+ */
+interface AnnotationHandler {
+
+    /**
+     * @return the fully qualified names of the annotation types this handler rewrites.
+     */
+    Set<String> getAnnotationTypes();
+
+    /**
+     * @return the check a compilation unit has to pass for this handler to be consulted at all, typically a
+     * {@link org.openrewrite.java.search.UsesType} that only consults the types in use.
+     */
+    TreeVisitor<?, ExecutionContext> getPrecondition();
+
+    /**
+     * @param dispatcher the visitor currently positioned on the annotation, used for the cursor and import changes.
+     * @param original   the annotation as it was before its arguments were visited.
+     * @param annotation the annotation to rewrite, one of {@link #getAnnotationTypes()}.
+     * @return the rewritten annotation, or {@code null} to remove it.
+     */
+    J.@Nullable Annotation visitAnnotation(AnnotationDispatcher dispatcher, J.Annotation original, J.Annotation annotation, ExecutionContext ctx);
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.hibernate;
+
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.Tree;
+import org.openrewrite.java.tree.*;
+import org.openrewrite.marker.Markers;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Collections.emptyList;
+
+/**
+ * Builds the small annotation fragments the recipes of this module insert, such as {@code fetch = FetchType.LAZY} or
+ * {@code @Convert(converter = YesNoConverter.class)}, directly as LST. None of them refer to symbols of the
+ * surrounding code, so there is nothing a {@link org.openrewrite.java.JavaTemplate} would have to compile, and the
+ * types are attached from the {@link LegacyTypeRegistry}. Callers remain responsible for adding the imports of the
+ * simple names used here.
+ */
+final class AnnotationTrees {
+
+    private AnnotationTrees() {
+    }
+
+    /**
+     * @return {@code @SimpleName(arguments)}, or {@code @SimpleName} when there are no arguments.
+     */
+    static J.Annotation annotation(String fullyQualifiedName, Space prefix, Expression... arguments) {
+        JContainer<Expression> args = null;
+        if (arguments.length > 0) {
+            List<JRightPadded<Expression>> padded = new ArrayList<>(arguments.length);
+            for (int i = 0; i < arguments.length; i++) {
+                padded.add(JRightPadded.build(i == 0 ? arguments[i].withPrefix(Space.EMPTY) : arguments[i]));
+            }
+            args = JContainer.build(Space.EMPTY, padded, Markers.EMPTY);
+        }
+        return new J.Annotation(
+                Tree.randomId(),
+                prefix,
+                Markers.EMPTY,
+                identifier(simpleName(fullyQualifiedName), LegacyTypeRegistry.classType(fullyQualifiedName)),
+                args
+        );
+    }
+
+    /**
+     * @return {@code name = value}, typed as the value.
+     */
+    static J.Assignment argument(String name, Expression value, Space prefix) {
+        return new J.Assignment(
+                Tree.randomId(),
+                prefix,
+                Markers.EMPTY,
+                identifier(name, null),
+                JLeftPadded.<Expression>build(value.withPrefix(Space.SINGLE_SPACE)).withBefore(Space.SINGLE_SPACE),
+                value.getType()
+        );
+    }
+
+    /**
+     * @return {@code SimpleName.class}.
+     */
+    static J.FieldAccess classReference(String fullyQualifiedName, Space prefix) {
+        return new J.FieldAccess(
+                Tree.randomId(),
+                prefix,
+                Markers.EMPTY,
+                identifier(simpleName(fullyQualifiedName), LegacyTypeRegistry.classType(fullyQualifiedName)),
+                JLeftPadded.build(identifier("class", null)),
+                LegacyTypeRegistry.classType("java.lang.Class")
+        );
+    }
+
+    /**
+     * @return {@code SimpleName.CONSTANT}, typed as the declaring type, which fits enum constants.
+     */
+    static J.FieldAccess enumConstant(String fullyQualifiedName, String constant, Space prefix) {
+        JavaType.FullyQualified type = LegacyTypeRegistry.classType(fullyQualifiedName);
+        return new J.FieldAccess(
+                Tree.randomId(),
+                prefix,
+                Markers.EMPTY,
+                identifier(simpleName(fullyQualifiedName), type),
+                JLeftPadded.build(identifier(constant, type)),
+                type
+        );
+    }
+
+    /**
+     * @return {@code "value"}.
+     */
+    static J.Literal string(String value, Space prefix) {
+        return new J.Literal(Tree.randomId(), prefix, Markers.EMPTY, value, "\"" + value + "\"", null, JavaType.Primitive.String);
+    }
+
+    /**
+     * @return {@code value}, as an {@code int}.
+     */
+    static J.Literal integer(int value, Space prefix) {
+        return new J.Literal(Tree.randomId(), prefix, Markers.EMPTY, value, String.valueOf(value), null, JavaType.Primitive.Int);
+    }
+
+    private static J.Identifier identifier(String simpleName, @Nullable JavaType type) {
+        return new J.Identifier(Tree.randomId(), Space.EMPTY, Markers.EMPTY, emptyList(), simpleName, type, null);
+    }
+
+    private static String simpleName(String fullyQualifiedName) {
+        return fullyQualifiedName.substring(fullyQualifiedName.lastIndexOf('.') + 1);
+    }
+}
@@ -0,0 +1,305 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.hibernate;
+
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.Cursor;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Preconditions;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.search.UsesType;
+import org.openrewrite.java.tree.Expression;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.JavaType;
+import org.openrewrite.java.tree.TypeUtils;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static java.util.Arrays.asList;
+
+/**
+ * The association mappings declared by the entities of a repository, keyed by the fully qualified name of the entity
+ * and the name of the attribute, with the fetch strategy they effectively end up with. Mappings are read from field
+ * annotations as well as from getter annotations, for entities using property access.
+ */
+final class AssociationIndex {
+
+    private static final List<String> ASSOCIATIONS = asList("ElementCollection", "OneToOne", "OneToMany", "ManyToOne", "ManyToMany");
+    static final List<String> PERSISTENCE_PACKAGES = asList("jakarta.persistence", "javax.persistence");
+
+    private final Map<String, Map<String, Association>> associations = new HashMap<>();
+
+    /**
+     * @return whether the annotation type is one of the association mappings of the given persistence package, such as
+     * {@code jakarta.persistence}.
+     */
+    static boolean isAssociation(@Nullable JavaType annotationType, String persistencePackage) {
+        for (String association : ASSOCIATIONS) {
+            if (TypeUtils.isOfClassType(annotationType, persistencePackage + "." + association)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return the attribute read by a call to a getter without arguments, such as {@code customer} for
+     * {@code getCustomer()}, or {@code null} when the call is not one.
+     */
+    static @Nullable String attribute(J.MethodInvocation method) {
+        String name = method.getSimpleName();
+        if (!name.startsWith("get") || name.length() <= 3 || !method.getArguments().stream().allMatch(J.Empty.class::isInstance)) {
+            return null;
+        }
+        return Character.toLowerCase(name.charAt(3)) + name.substring(4);
+    }
+
+    /**
+     * @param cursor the cursor positioned on the getter call.
+     * @return whether the getter of a to-one association only serves to call {@code getId()} on the result, which
+     * doesn't initialize a lazy proxy.
+     */
+    static boolean isProxyIdAccess(Cursor cursor, J.MethodInvocation getter) {
+        Object parent = cursor.getParentTreeCursor().getValue();
+        if (!(parent instanceof J.MethodInvocation) || !"getId".equals(((J.MethodInvocation) parent).getSimpleName())) {
+            return false;
+        }
+        Expression select = ((J.MethodInvocation) parent).getSelect();
+        return select != null && select.getId().equals(getter.getId());
+    }
+
+    /**
+     * @return the association mapped by the attribute of the entity or one of its mapped superclasses, or {@code null}
+     * when the attribute is not an association declared in this repository.
+     */
+    @Nullable Association get(JavaType.@Nullable FullyQualified entity, String attribute) {
+        for (JavaType.FullyQualified type = entity; type != null; type = type.getSupertype()) {
+            Map<String, Association> attributes = associations.get(type.getFullyQualifiedName());
+            if (attributes != null && attributes.containsKey(attribute)) {
+                return attributes.get(attribute);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return the fully qualified names of the entities declaring at least one extra lazy association.
+     */
+    Set<String> extraLazyEntities() {
+        Set<String> entities = new TreeSet<>();
+        associations.forEach((entity, attributes) -> {
+            if (attributes.values().stream().anyMatch(Association::isExtraLazy)) {
+                entities.add(entity);
+            }
+        });
+        return entities;
+    }
+
+    /**
+     * @return the fully qualified names of the entities declaring at least one owning to-one association that relies on
+     * the eager default.
+     */
+    Set<String> eagerToOneEntities() {
+        Set<String> entities = new TreeSet<>();
+        associations.forEach((entity, attributes) -> {
+            if (attributes.values().stream().anyMatch(a -> !a.isCollection() && !a.isFetchDeclared() && !a.isInverse())) {
+                entities.add(entity);
+            }
+        });
+        return entities;
+    }
+
+    /**
+     * @return whether the annotation assigns a value to the attribute of that name, such as {@code fetch}.
+     */
+    static boolean declares(J.Annotation annotation, String name) {
+        if (annotation.getArguments() == null) {
+            return false;
+        }
+        for (Expression arg : annotation.getArguments()) {
+            if (arg instanceof J.Assignment && ((J.Assignment) arg).getVariable() instanceof J.Identifier &&
+                name.equals(((J.Identifier) ((J.Assignment) arg).getVariable()).getSimpleName())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    void put(String entity, Association association) {
+        associations.computeIfAbsent(entity, k -> new HashMap<>()).put(association.getAttribute(), association);
+    }
+
+    TreeVisitor<?, ExecutionContext> scanner() {
+        return Preconditions.check(Preconditions.or(
+                new UsesType<>("jakarta.persistence..*", true),
+                new UsesType<>("javax.persistence..*", true)
+        ), new JavaIsoVisitor<ExecutionContext>() {
+            @Override
+            public J.VariableDeclarations visitVariableDeclarations(J.VariableDeclarations multiVariable, ExecutionContext ctx) {
+                J.VariableDeclarations v = super.visitVariableDeclarations(multiVariable, ctx);
+                boolean field = getCursor().getParentTreeCursor().getParentTreeCursor().getValue() instanceof J.ClassDeclaration;
+                if (field && v.getVariables().size() == 1) {
+                    record(v.getLeadingAnnotations(), v.getVariables().get(0).getSimpleName());
+                }
+                return v;
+            }
+
+            @Override
+            public J.MethodDeclaration visitMethodDeclaration(J.MethodDeclaration method, ExecutionContext ctx) {
+                J.MethodDeclaration m = super.visitMethodDeclaration(method, ctx);
+                String name = m.getSimpleName();
+                if (name.startsWith("get") && name.length() > 3) {
+                    record(m.getLeadingAnnotations(), Character.toLowerCase(name.charAt(3)) + name.substring(4));
+                }
+                return m;
+            }
+
+            private void record(List<J.Annotation> annotations, String attribute) {
+                J.ClassDeclaration entity = getCursor().firstEnclosing(J.ClassDeclaration.class);
+                if (entity == null || entity.getType() == null) {
+                    return;
+                }
+                Association association = Association.of(annotations, attribute);
+                if (association != null) {
+                    put(entity.getType().getFullyQualifiedName(), association);
+                }
+            }
+        });
+    }
+
+    @Value
+    static class Association {
+        String attribute;
+
+        /**
+         * The simple name of the mapping annotation, such as {@code OneToMany}.
+         */
+        String mapping;
+
+        /**
+         * Whether the association is loaded on first access rather than together with the entity.
+         */
+        boolean lazy;
+
+        /**
+         * Whether the mapping annotation declares the fetch type, rather than relying on the default.
+         */
+        boolean fetchDeclared;
+
+        /**
+         * Whether {@code @LazyCollection(LazyCollectionOption.EXTRA)} keeps the collection from being initialized by
+         * {@code size()}, {@code isEmpty()} and {@code contains(Object)}.
+         */
+        boolean extraLazy;
+
+        /**
+         * Whether {@code @BatchSize} or {@code @Fetch(FetchMode.SUBSELECT)} already load the association of many
+         * entities at once.
+         */
+        boolean batched;
+
+        /**
+         * Whether the mapping is the inverse side of the association, named by {@code mappedBy}.
+         */
+        boolean inverse;
+
+        boolean isCollection() {
+            return !isToOne(mapping);
+        }
+
+        static boolean isToOne(String mapping) {
+            return "ManyToOne".equals(mapping) || "OneToOne".equals(mapping);
+        }
+
+        static @Nullable Association of(List<J.Annotation> annotations, String attribute) {
+            String mapping = null;
+            String fetch = null;
+            String lazyCollection = null;
+            boolean batched = false;
+            boolean inverse = false;
+            for (J.Annotation annotation : annotations) {
+                JavaType.FullyQualified type = TypeUtils.asFullyQualified(annotation.getType());
+                if (type == null) {
+                    continue;
+                }
+                for (String persistencePackage : PERSISTENCE_PACKAGES) {
+                    if (isAssociation(type, persistencePackage)) {
+                        mapping = type.getClassName();
+                        fetch = argument(annotation, "fetch");
+                        inverse = declares(annotation, "mappedBy");
+                    }
+                }
+                switch (type.getFullyQualifiedName()) {
+                    case "org.hibernate.annotations.LazyCollection":
+                        lazyCollection = argument(annotation, "value");
+                        if (lazyCollection == null) {
+                            lazyCollection = "TRUE";
+                        }
+                        break;
+                    case "org.hibernate.annotations.BatchSize":
+                        batched = true;
+                        break;
+                    case "org.hibernate.annotations.Fetch":
+                        batched |= "SUBSELECT".equals(argument(annotation, "value"));
+                        break;
+                }
+            }
+            if (mapping == null) {
+                return null;
+            }
+            boolean lazy;
+            if (fetch != null) {
+                lazy = "LAZY".equals(fetch);
+            } else if (lazyCollection != null) {
+                lazy = !"FALSE".equals(lazyCollection);
+            } else {
+                lazy = !isToOne(mapping);
+            }
+            return new Association(attribute, mapping, lazy, fetch != null, "EXTRA".equals(lazyCollection), batched, inverse);
+        }
+
+        /**
+         * @return the simple name of the enum constant given to the attribute of the annotation, if any.
+         */
+        private static @Nullable String argument(J.Annotation annotation, String name) {
+            if (annotation.getArguments() == null) {
+                return null;
+            }
+            for (Expression arg : annotation.getArguments()) {
+                Expression value = null;
+                if (arg instanceof J.Assignment && ((J.Assignment) arg).getVariable() instanceof J.Identifier) {
+                    if (name.equals(((J.Identifier) ((J.Assignment) arg).getVariable()).getSimpleName())) {
+                        value = ((J.Assignment) arg).getAssignment();
+                    }
+                } else if ("value".equals(name)) {
+                    value = arg;
+                }
+                if (value instanceof J.FieldAccess) {
+                    return ((J.FieldAccess) value).getSimpleName();
+                } else if (value instanceof J.Identifier) {
+                    return ((J.Identifier) value).getSimpleName();
+                }
+            }
+            return null;
+        }
+    }
+}
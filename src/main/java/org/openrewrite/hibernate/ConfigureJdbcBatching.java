@@ -0,0 +1,318 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.hibernate;
+
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Option;
+import org.openrewrite.Recipe;
+import org.openrewrite.Tree;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.internal.ListUtils;
+import org.openrewrite.properties.PropertiesIsoVisitor;
+import org.openrewrite.properties.PropertiesParser;
+import org.openrewrite.properties.tree.Properties;
+import org.openrewrite.xml.AddToTagVisitor;
+import org.openrewrite.xml.XmlIsoVisitor;
+import org.openrewrite.xml.tree.Xml;
+import org.openrewrite.yaml.YamlIsoVisitor;
+import org.openrewrite.yaml.YamlParser;
+import org.openrewrite.yaml.tree.Yaml;
+
+import java.util.*;
+
+import static java.util.Arrays.asList;
+
+@Value
+@EqualsAndHashCode(callSuper = false)
+public class ConfigureJdbcBatching extends Recipe {
+
+    private static final int DEFAULT_BATCH_SIZE = 50;
+    private static final String SPRING_JPA = "spring.jpa.";
+    private static final String SPRING_JPA_PROPERTIES = "spring.jpa.properties.";
+
+    @Option(displayName = "Batch size",
+            description = "The number of statements sent to the database in one JDBC batch. Defaults to " + DEFAULT_BATCH_SIZE + ".",
+            example = "50",
+            required = false)
+    @Nullable
+    Integer batchSize;
+
+    String displayName = "Configure Hibernate JDBC batching";
+
+    String description = "Adds `hibernate.jdbc.batch_size`, `hibernate.order_inserts`, `hibernate.order_updates` and `hibernate.jdbc.batch_versioned_data` " +
+      "where they are absent, so that inserts and updates are sent to the database in batches instead of one round trip per row. " +
+      "Properties and YAML files configuring `spring.jpa` or Hibernate, `persistence.xml` and `hibernate.cfg.xml` are updated, " +
+      "the same files `MigrateDialect` migrates the dialect in.";
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        Map<String, String> settings = new LinkedHashMap<>();
+        settings.put("hibernate.jdbc.batch_size", String.valueOf(batchSize == null ? DEFAULT_BATCH_SIZE : batchSize));
+        settings.put("hibernate.order_inserts", "true");
+        settings.put("hibernate.order_updates", "true");
+        settings.put("hibernate.jdbc.batch_versioned_data", "true");
+        return new TreeVisitor<Tree, ExecutionContext>() {
+            @Override
+            public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
+                if (tree instanceof Properties.File) {
+                    return new BatchingPropertiesVisitor(settings).visit(tree, ctx);
+                } else if (tree instanceof Yaml.Documents) {
+                    return new BatchingYamlVisitor(settings).visit(tree, ctx);
+                } else if (tree instanceof Xml.Document) {
+                    return new BatchingXmlVisitor(settings).visit(tree, ctx);
+                }
+                return tree;
+            }
+        };
+    }
+
+    /**
+     * Uses the {@code spring.jpa.properties.} prefix in files configuring Spring Data JPA, and no prefix in files
+     * configuring Hibernate directly.
+     */
+    private static class BatchingPropertiesVisitor extends PropertiesIsoVisitor<ExecutionContext> {
+        private final Map<String, String> settings;
+
+        BatchingPropertiesVisitor(Map<String, String> settings) {
+            this.settings = settings;
+        }
+
+        @Override
+        public Properties.File visitFile(Properties.File file, ExecutionContext ctx) {
+            Set<String> keys = new HashSet<>();
+            for (Properties.Content content : file.getContent()) {
+                if (content instanceof Properties.Entry) {
+                    keys.add(((Properties.Entry) content).getKey());
+                }
+            }
+            String prefix;
+            if (keys.stream().anyMatch(key -> key.startsWith(SPRING_JPA))) {
+                prefix = SPRING_JPA_PROPERTIES;
+            } else if (keys.stream().anyMatch(key -> key.startsWith("hibernate."))) {
+                prefix = "";
+            } else {
+                return file;
+            }
+
+            List<Properties.Content> added = new ArrayList<>();
+            for (Map.Entry<String, String> setting : settings.entrySet()) {
+                String key = prefix + setting.getKey();
+                if (!keys.contains(key)) {
+                    Properties.File parsed = (Properties.File) new PropertiesParser()
+                            .parse(key + "=" + setting.getValue())
+                            .findFirst()
+                            .orElseThrow(IllegalStateException::new);
+                    added.add((Properties.Content) parsed.getContent().get(0).withPrefix("\n"));
+                }
+            }
+            if (added.isEmpty()) {
+                return file;
+            }
+            if (file.getContent().isEmpty()) {
+                added.set(0, (Properties.Content) added.get(0).withPrefix(""));
+            }
+            return file.withContent(ListUtils.concatAll(file.getContent(), added));
+        }
+    }
+
+    /**
+     * Adds the settings below {@code spring.jpa.properties} of every document that configures {@code spring.jpa},
+     * nested or as a dotted key, following whichever of both styles the mapping receiving a setting already uses.
+     */
+    private static class BatchingYamlVisitor extends YamlIsoVisitor<ExecutionContext> {
+        private final Map<String, String> settings;
+
+        BatchingYamlVisitor(Map<String, String> settings) {
+            this.settings = settings;
+        }
+
+        @Override
+        public Yaml.Document visitDocument(Yaml.Document document, ExecutionContext ctx) {
+            if (!(document.getBlock() instanceof Yaml.Mapping)) {
+                return document;
+            }
+            Yaml.Mapping root = (Yaml.Mapping) document.getBlock();
+            if (!configures(root, asList("spring", "jpa"))) {
+                return document;
+            }
+            int step = indentationStep(root);
+            for (Map.Entry<String, String> setting : settings.entrySet()) {
+                List<String> path = new ArrayList<>(asList((SPRING_JPA_PROPERTIES + setting.getKey()).split("\\.")));
+                Yaml.Mapping updated = add(root, path, setting.getValue(), step);
+                if (updated != null) {
+                    root = updated;
+                }
+            }
+            return document.withBlock(root);
+        }
+
+        /**
+         * @return whether the mapping configures anything below the path, wherever keys spell out several of its
+         * segments at once.
+         */
+        private static boolean configures(Yaml.Mapping mapping, List<String> path) {
+            for (Yaml.Mapping.Entry entry : mapping.getEntries()) {
+                List<String> key = asList(entry.getKey().getValue().split("\\."));
+                if (startsWith(key, path)) {
+                    return true;
+                } else if (startsWith(path, key) && entry.getValue() instanceof Yaml.Mapping &&
+                           configures((Yaml.Mapping) entry.getValue(), path.subList(key.size(), path.size()))) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * @return the mapping with the setting added, or {@code null} when the setting is already configured, so that
+         * an enclosing mapping doesn't add it a second time at its own level.
+         */
+        private static Yaml.@Nullable Mapping add(Yaml.Mapping mapping, List<String> path, String value, int step) {
+            for (Yaml.Mapping.Entry entry : mapping.getEntries()) {
+                List<String> key = asList(entry.getKey().getValue().split("\\."));
+                if (startsWith(path, key)) {
+                    if (key.size() == path.size()) {
+                        // Already configured
+                        return null;
+                    } else if (entry.getValue() instanceof Yaml.Mapping) {
+                        Yaml.Mapping child = (Yaml.Mapping) entry.getValue();
+                        Yaml.Mapping updated = add(child, path.subList(key.size(), path.size()), value, step);
+                        if (updated == null) {
+                            return null;
+                        } else if (updated != child) {
+                            return mapping.withEntries(ListUtils.map(mapping.getEntries(), e -> e == entry ? e.withValue(updated) : e));
+                        }
+                    }
+                }
+            }
+
+            List<Yaml.Mapping.Entry> entries = mapping.getEntries();
+            if (entries.isEmpty()) {
+                return mapping;
+            }
+            String lastPrefix = entries.get(entries.size() - 1).getPrefix();
+            String indent = lastPrefix.substring(lastPrefix.lastIndexOf('\n') + 1);
+            boolean dotted = entries.stream().anyMatch(e -> e.getKey().getValue().contains("."));
+            return mapping.withEntries(ListUtils.concat(entries, entry(dotted ? singletonPath(path) : path, value, indent, step)));
+        }
+
+        private static Yaml.Mapping.Entry entry(List<String> path, String value, String indent, int step) {
+            StringBuilder yaml = new StringBuilder();
+            for (int i = 0; i < path.size(); i++) {
+                if (i > 0) {
+                    yaml.append('\n');
+                }
+                yaml.append(repeat(' ', i * step)).append(path.get(i)).append(':');
+            }
+            yaml.append(' ').append(value);
+            Yaml.Documents parsed = (Yaml.Documents) new YamlParser()
+                    .parse(yaml.toString())
+                    .findFirst()
+                    .orElseThrow(IllegalStateException::new);
+            Yaml.Mapping.Entry entry = ((Yaml.Mapping) parsed.getDocuments().get(0).getBlock()).getEntries().get(0);
+            // Indent the nested entries at the level of the mapping receiving them
+            entry = (Yaml.Mapping.Entry) new YamlIsoVisitor<Integer>() {
+                @Override
+                public Yaml.Mapping.Entry visitMappingEntry(Yaml.Mapping.Entry e, Integer p) {
+                    Yaml.Mapping.Entry me = super.visitMappingEntry(e, p);
+                    return me.withPrefix(me.getPrefix().replace("\n", "\n" + indent));
+                }
+            }.visitNonNull(entry, 0);
+            return entry.withPrefix("\n" + indent);
+        }
+
+        private static List<String> singletonPath(List<String> path) {
+            return Collections.singletonList(String.join(".", path));
+        }
+
+        private static boolean startsWith(List<String> path, List<String> prefix) {
+            return prefix.size() <= path.size() && path.subList(0, prefix.size()).equals(prefix);
+        }
+
+        private static int indentationStep(Yaml.Mapping root) {
+            for (Yaml.Mapping.Entry entry : root.getEntries()) {
+                if (entry.getValue() instanceof Yaml.Mapping && !((Yaml.Mapping) entry.getValue()).getEntries().isEmpty()) {
+                    String prefix = ((Yaml.Mapping) entry.getValue()).getEntries().get(0).getPrefix();
+                    String rootPrefix = entry.getPrefix();
+                    int step = (prefix.length() - prefix.lastIndexOf('\n') - 1) - (rootPrefix.length() - rootPrefix.lastIndexOf('\n') - 1);
+                    if (step > 0) {
+                        return step;
+                    }
+                }
+            }
+            return 2;
+        }
+
+        private static String repeat(char c, int times) {
+            char[] chars = new char[times];
+            Arrays.fill(chars, c);
+            return new String(chars);
+        }
+    }
+
+    /**
+     * Adds {@code <property name="..." value="..."/>} to the {@code <properties>} of a {@code persistence.xml} and
+     * {@code <property name="...">...</property>} to the {@code <session-factory>} of a {@code hibernate.cfg.xml}.
+     */
+    private static class BatchingXmlVisitor extends XmlIsoVisitor<ExecutionContext> {
+        private final Map<String, String> settings;
+
+        BatchingXmlVisitor(Map<String, String> settings) {
+            this.settings = settings;
+        }
+
+        @Override
+        public Xml.Tag visitTag(Xml.Tag tag, ExecutionContext ctx) {
+            Xml.Tag t = super.visitTag(tag, ctx);
+            boolean persistenceUnit = "properties".equals(t.getName()) && isChildOf("persistence-unit");
+            boolean sessionFactory = "session-factory".equals(t.getName()) && isChildOf("hibernate-configuration");
+            if (!persistenceUnit && !sessionFactory) {
+                return t;
+            }
+
+            Set<String> names = new HashSet<>();
+            for (Xml.Tag property : t.getChildren("property")) {
+                property.getAttributeValue("name").ifPresent(names::add);
+            }
+            if (persistenceUnit && names.stream().noneMatch(name -> name.startsWith("hibernate."))) {
+                // Another persistence provider
+                return t;
+            } else if (sessionFactory) {
+                // hibernate.cfg.xml accepts names without the "hibernate." prefix
+                for (String name : new ArrayList<>(names)) {
+                    names.add("hibernate." + name);
+                }
+            }
+            for (Map.Entry<String, String> setting : settings.entrySet()) {
+                if (!names.contains(setting.getKey())) {
+                    Xml.Tag property = Xml.Tag.build(persistenceUnit ?
+                            "<property name=\"" + setting.getKey() + "\" value=\"" + setting.getValue() + "\"/>" :
+                            "<property name=\"" + setting.getKey() + "\">" + setting.getValue() + "</property>");
+                    t = (Xml.Tag) new AddToTagVisitor<>(t, property).visitNonNull(t, ctx, getCursor().getParentOrThrow());
+                }
+            }
+            return t;
+        }
+
+        private boolean isChildOf(String name) {
+            Object parent = getCursor().getParentTreeCursor().getValue();
+            return parent instanceof Xml.Tag && name.equals(((Xml.Tag) parent).getName());
+        }
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.hibernate;
+
+import org.openrewrite.Cursor;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.java.AnnotationMatcher;
+import org.openrewrite.java.RemoveAnnotationVisitor;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.JavaSourceFile;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Collects the annotations a visitor decides to drop while it walks a compilation unit, and removes all of them with a
+ * single {@link RemoveAnnotationVisitor} once the walk is over. Scheduling one remover per annotation instead costs a
+ * traversal of the whole compilation unit for every match. Annotations are remembered by id only, so the removal also
+ * applies to an annotation that was rewritten in the meantime, but not to copies made with a fresh id.
+ */
+public final class DeferredAnnotationRemoval {
+
+    private static final String ANNOTATION_IDS = DeferredAnnotationRemoval.class.getName() + ".ANNOTATION_IDS";
+
+    private DeferredAnnotationRemoval() {
+    }
+
+    /**
+     * @param cursor            the cursor of the visitor, positioned anywhere inside the compilation unit.
+     * @param annotationPattern the annotation pattern covering every annotation removed this way, which also keys the
+     *                          collector so that different kinds of removals don't share one.
+     * @param annotation        the annotation to remove.
+     * @param afterVisit        the {@code doAfterVisit} of the visitor, only called for the first annotation of a
+     *                          compilation unit.
+     */
+    public static void remove(Cursor cursor, String annotationPattern, J.Annotation annotation,
+                              Consumer<TreeVisitor<?, ExecutionContext>> afterVisit) {
+        Cursor sourceFile = cursor.dropParentUntil(JavaSourceFile.class::isInstance);
+        String key = ANNOTATION_IDS + annotationPattern;
+        Set<UUID> ids = sourceFile.getMessage(key);
+        if (ids == null) {
+            Set<UUID> scheduled = new HashSet<>();
+            sourceFile.putMessage(key, scheduled);
+            afterVisit.accept(new RemoveAnnotationVisitor(new AnnotationMatcher(annotationPattern) {
+                @Override
+                public boolean matches(J.Annotation anno) {
+                    return scheduled.contains(anno.getId());
+                }
+            }));
+            ids = scheduled;
+        }
+        ids.add(annotation.getId());
+    }
+}
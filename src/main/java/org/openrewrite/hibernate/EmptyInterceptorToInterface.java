@@ -24,7 +24,6 @@ import org.openrewrite.internal.ListUtils;
 import org.openrewrite.java.JavaIsoVisitor;
 import org.openrewrite.java.JavaTemplate;
 import org.openrewrite.java.MethodMatcher;
-import org.openrewrite.java.search.FindImplementations;
 import org.openrewrite.java.tree.*;
 
 public class EmptyInterceptorToInterface extends Recipe {
@@ -43,15 +42,15 @@ public class EmptyInterceptorToInterface extends Recipe {
 
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return Preconditions.check(new FindImplementations(EMPTY_INTERCEPTOR), new JavaIsoVisitor<ExecutionContext>() {
+        return Preconditions.check(TypeTablePreconditions.findImplementations(EMPTY_INTERCEPTOR), new JavaIsoVisitor<ExecutionContext>() {
                     @Override
                     public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration classDecl, ExecutionContext ctx) {
                         J.ClassDeclaration cd = super.visitClassDeclaration(classDecl, ctx);
                         if (cd.getExtends() != null && TypeUtils.isOfClassType(cd.getExtends().getType(), EMPTY_INTERCEPTOR)) {
-                            cd = cd.withExtends(null).withImplements(ListUtils.concat(cd.getImplements(), (TypeTree) TypeTree.build("Interceptor").withType(JavaType.buildType(INTERCEPTOR)).withPrefix(Space.SINGLE_SPACE)));
+                            cd = cd.withExtends(null).withImplements(ListUtils.concat(cd.getImplements(), (TypeTree) TypeTree.build("Interceptor").withType(LegacyTypeRegistry.classType(INTERCEPTOR)).withPrefix(Space.SINGLE_SPACE)));
                             maybeAddImport(INTERCEPTOR);
                             if (getCursor().pollMessage("prepareStatementFound") != null) {
-                                cd = cd.withImplements(ListUtils.concat(cd.getImplements(), (TypeTree) TypeTree.build("StatementInspector").withType(JavaType.buildType(STATEMENT_INSPECTOR)).withPrefix(Space.SINGLE_SPACE)));
+                                cd = cd.withImplements(ListUtils.concat(cd.getImplements(), (TypeTree) TypeTree.build("StatementInspector").withType(LegacyTypeRegistry.classType(STATEMENT_INSPECTOR)).withPrefix(Space.SINGLE_SPACE)));
                                 maybeAddImport(STATEMENT_INSPECTOR);
                             }
                             maybeRemoveImport(EMPTY_INTERCEPTOR);
@@ -0,0 +1,253 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.hibernate;
+
+import lombok.Getter;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.hibernate.AssociationIndex.Association;
+import org.openrewrite.hibernate.table.LazyAssociationsInLoops;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.search.UsesMethod;
+import org.openrewrite.java.tree.Expression;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.JavaType;
+import org.openrewrite.java.tree.TypeUtils;
+import org.openrewrite.marker.SearchResult;
+
+import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static java.util.Arrays.asList;
+
+public class FindLazyAssociationsInLoops extends ScanningRecipe<AssociationIndex> {
+
+    private static final List<MethodMatcher> QUERY_RESULTS = asList(
+            new MethodMatcher("org.hibernate.query.Query list()", true),
+            new MethodMatcher("org.hibernate.query.Query stream()", true),
+            // Where Hibernate 6 declares the list() and stream() that Query inherits
+            new MethodMatcher("org.hibernate.query.SelectionQuery list()", true),
+            new MethodMatcher("org.hibernate.query.SelectionQuery stream()", true),
+            new MethodMatcher("org.hibernate.Criteria list()", true),
+            new MethodMatcher("jakarta.persistence.Query getResultList()", true),
+            new MethodMatcher("jakarta.persistence.Query getResultStream()", true),
+            new MethodMatcher("javax.persistence.Query getResultList()", true),
+            new MethodMatcher("javax.persistence.Query getResultStream()", true)
+    );
+
+    /**
+     * Calls that still yield the query results themselves, one by one.
+     */
+    private static final Set<String> PASS_THROUGH = new HashSet<>(asList(
+            "stream", "parallelStream", "filter", "sorted", "distinct", "limit", "skip", "peek"));
+
+    private static final Pattern FROM_ALIAS = Pattern.compile("(?i)\\bfrom\\s+[\\w.$]+(?:\\s+(?:as\\s+)?(\\w+))?");
+    private static final Set<String> NOT_AN_ALIAS = new HashSet<>(asList(
+            "where", "join", "left", "right", "inner", "outer", "cross", "full", "fetch", "order", "group"));
+
+    private static final String QUERY_RESULT_VARIABLES = "QUERY_RESULT_VARIABLES";
+    private static final String QUERY_RESULT_ELEMENTS = "QUERY_RESULT_ELEMENTS";
+
+    transient LazyAssociationsInLoops lazyAssociations = new LazyAssociationsInLoops(this);
+
+    @Getter
+    final String displayName = "Find lazy associations accessed in loops over query results";
+
+    @Getter
+    final String description = "Finds `for` loops and stream operations over the results of a `Session` or `EntityManager` query " +
+      "that access a lazily fetched association of the query results, which runs one additional select per result, known as the N+1 selects problem. " +
+      "Associations batched with `@BatchSize` or `@Fetch(FetchMode.SUBSELECT)` are not reported. " +
+      "The query site and association are listed with a suggested `join fetch` or entity graph.";
+
+    @Override
+    public AssociationIndex getInitialValue(ExecutionContext ctx) {
+        return new AssociationIndex();
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getScanner(AssociationIndex associations) {
+        return associations.scanner();
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor(AssociationIndex associations) {
+        List<TreeVisitor<?, ExecutionContext>> usesQuery = new ArrayList<>(QUERY_RESULTS.size());
+        for (MethodMatcher matcher : QUERY_RESULTS) {
+            usesQuery.add(new UsesMethod<>(matcher));
+        }
+        //noinspection unchecked
+        return Preconditions.check(Preconditions.or(usesQuery.toArray(new TreeVisitor[0])), new JavaIsoVisitor<ExecutionContext>() {
+            @Override
+            public J.VariableDeclarations visitVariableDeclarations(J.VariableDeclarations multiVariable, ExecutionContext ctx) {
+                for (J.VariableDeclarations.NamedVariable variable : multiVariable.getVariables()) {
+                    J.MethodInvocation query = variable.getInitializer() == null ? null : queryOf(variable.getInitializer());
+                    if (query != null) {
+                        getCursor().dropParentUntil(J.Block.class::isInstance)
+                                .<Map<String, J.MethodInvocation>>computeMessageIfAbsent(QUERY_RESULT_VARIABLES, k -> new HashMap<>())
+                                .put(variable.getSimpleName(), query);
+                    }
+                }
+                return super.visitVariableDeclarations(multiVariable, ctx);
+            }
+
+            @Override
+            public J.ForEachLoop visitForEachLoop(J.ForEachLoop forLoop, ExecutionContext ctx) {
+                J.MethodInvocation query = queryOf(forLoop.getControl().getIterable());
+                if (query != null) {
+                    iterate(query, forLoop.getControl().getVariable());
+                }
+                return super.visitForEachLoop(forLoop, ctx);
+            }
+
+            @Override
+            public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
+                J.MethodInvocation query = method.getSelect() == null ? null : queryOf(method.getSelect());
+                if (query != null) {
+                    for (Expression arg : method.getArguments()) {
+                        if (arg instanceof J.Lambda) {
+                            List<J> parameters = ((J.Lambda) arg).getParameters().getParameters();
+                            if (parameters.size() == 1 && parameters.get(0) instanceof J.VariableDeclarations) {
+                                iterate(query, (J.VariableDeclarations) parameters.get(0));
+                            }
+                        }
+                    }
+                }
+                J.MethodInvocation m = super.visitMethodInvocation(method, ctx);
+                return lazyAccess(m, ctx);
+            }
+
+            /**
+             * @return the query call whose results the expression yields one by one, looking through stream
+             * operations and through local variables initialized with query results.
+             */
+            private J.@Nullable MethodInvocation queryOf(Expression expression) {
+                Expression e = expression;
+                while (e instanceof J.MethodInvocation) {
+                    J.MethodInvocation m = (J.MethodInvocation) e;
+                    for (MethodMatcher matcher : QUERY_RESULTS) {
+                        if (matcher.matches(m)) {
+                            return m;
+                        }
+                    }
+                    if (!PASS_THROUGH.contains(m.getSimpleName())) {
+                        return null;
+                    }
+                    e = m.getSelect();
+                }
+                if (e instanceof J.Identifier) {
+                    String name = ((J.Identifier) e).getSimpleName();
+                    for (Cursor c = getCursor(); c != null; c = c.getParent()) {
+                        Map<String, J.MethodInvocation> variables = c.getMessage(QUERY_RESULT_VARIABLES);
+                        if (variables != null && variables.containsKey(name)) {
+                            return variables.get(name);
+                        }
+                    }
+                }
+                return null;
+            }
+
+            private void iterate(J.MethodInvocation query, J.VariableDeclarations element) {
+                J.VariableDeclarations.NamedVariable variable = element.getVariables().get(0);
+                JavaType.FullyQualified entity = TypeUtils.asFullyQualified(variable.getType());
+                if (entity != null) {
+                    getCursor().<List<Element>>computeMessageIfAbsent(QUERY_RESULT_ELEMENTS, k -> new ArrayList<>())
+                            .add(new Element(variable.getSimpleName(), entity, query, new HashSet<>()));
+                }
+            }
+
+            private @Nullable Element element(String name) {
+                for (Cursor c = getCursor(); c != null; c = c.getParent()) {
+                    List<Element> elements = c.getMessage(QUERY_RESULT_ELEMENTS);
+                    if (elements != null) {
+                        for (Element element : elements) {
+                            if (element.getName().equals(name)) {
+                                return element;
+                            }
+                        }
+                    }
+                }
+                return null;
+            }
+
+            private J.MethodInvocation lazyAccess(J.MethodInvocation m, ExecutionContext ctx) {
+                String attribute = AssociationIndex.attribute(m);
+                if (attribute == null || !(m.getSelect() instanceof J.Identifier)) {
+                    return m;
+                }
+                Element element = element(((J.Identifier) m.getSelect()).getSimpleName());
+                if (element == null) {
+                    return m;
+                }
+                Association association = associations.get(element.getEntity(), attribute);
+                if (association == null || !association.isLazy() || association.isBatched() ||
+                    !association.isCollection() && AssociationIndex.isProxyIdAccess(getCursor(), m)) {
+                    return m;
+                }
+                if (element.getReported().add(attribute)) {
+                    lazyAssociations.insertRow(ctx, new LazyAssociationsInLoops.Row(
+                            getCursor().firstEnclosingOrThrow(SourceFile.class).getSourcePath().toString(),
+                            element.getQuery().printTrimmed(getCursor()),
+                            element.getEntity().getFullyQualifiedName(),
+                            "@" + association.getMapping() + " " + attribute,
+                            suggestion(element.getQuery(), attribute)
+                    ));
+                }
+                return SearchResult.found(m, "Lazy association loaded once per query result");
+            }
+        });
+    }
+
+    private static String suggestion(J.MethodInvocation query, String attribute) {
+        String alias = alias(query);
+        String joinFetch = alias == null ?
+                "a `left join fetch` of `" + attribute + "`" :
+                "`left join fetch " + alias + "." + attribute + "`";
+        return "Add " + joinFetch + " to the query, or run it with an entity graph including `" + attribute + "`.";
+    }
+
+    /**
+     * @return the alias of the entity selected by the query string the query was created with, if known.
+     */
+    private static @Nullable String alias(J.MethodInvocation query) {
+        for (Expression e = query; e instanceof J.MethodInvocation; e = ((J.MethodInvocation) e).getSelect()) {
+            J.MethodInvocation m = (J.MethodInvocation) e;
+            if (m.getSimpleName().startsWith("create") && m.getArguments().get(0) instanceof J.Literal &&
+                ((J.Literal) m.getArguments().get(0)).getValue() instanceof String) {
+                Matcher matcher = FROM_ALIAS.matcher((String) ((J.Literal) m.getArguments().get(0)).getValue());
+                if (matcher.find() && matcher.group(1) != null && !NOT_AN_ALIAS.contains(matcher.group(1).toLowerCase(Locale.ROOT))) {
+                    return matcher.group(1);
+                }
+                return null;
+            }
+        }
+        return null;
+    }
+
+    @Value
+    private static class Element {
+        String name;
+        JavaType.FullyQualified entity;
+        J.MethodInvocation query;
+
+        /**
+         * The associations already listed for this loop, which are only marked from then on.
+         */
+        Set<String> reported;
+    }
+}
@@ -0,0 +1,206 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.hibernate;
+
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.internal.ListUtils;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.tree.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Collections.singletonList;
+
+/**
+ * Finds and rewrites the {@code @GeneratedValue} of identifier attributes, for the recipes changing how Hibernate
+ * generates identifiers. Both {@code javax.persistence} and {@code jakarta.persistence} mappings are supported.
+ */
+final class GeneratedIdentifiers {
+
+    private GeneratedIdentifiers() {
+    }
+
+    /**
+     * Visits the {@code @GeneratedValue} of every {@code @Id} attribute that doesn't name its generator, whether it is
+     * mapped on a field or on a getter.
+     */
+    abstract static class Visitor extends JavaIsoVisitor<ExecutionContext> {
+
+        /**
+         * @param generatedValue the {@code @GeneratedValue} among the annotations.
+         * @param annotations    the leading annotations of the field or getter.
+         * @param prefix         the prefix of the field or getter, for the indentation of added annotations.
+         * @param attribute      the name of the attribute.
+         * @param type           the type of the attribute.
+         * @return the annotations of the attribute, or the same list when they are left alone.
+         */
+        abstract List<J.Annotation> visitGeneratedValue(J.Annotation generatedValue, List<J.Annotation> annotations,
+                                                        Space prefix, String attribute, @Nullable JavaType type,
+                                                        ExecutionContext ctx);
+
+        @Override
+        public J.VariableDeclarations visitVariableDeclarations(J.VariableDeclarations multiVariable, ExecutionContext ctx) {
+            J.VariableDeclarations v = super.visitVariableDeclarations(multiVariable, ctx);
+            boolean field = getCursor().getParentTreeCursor().getParentTreeCursor().getValue() instanceof J.ClassDeclaration;
+            if (!field || v.getVariables().size() != 1) {
+                return v;
+            }
+            J.Annotation generatedValue = generatedValue(v.getLeadingAnnotations());
+            if (generatedValue == null) {
+                return v;
+            }
+            return v.withLeadingAnnotations(visitGeneratedValue(generatedValue, v.getLeadingAnnotations(), v.getPrefix(),
+                    v.getVariables().get(0).getSimpleName(), v.getType(), ctx));
+        }
+
+        @Override
+        public J.MethodDeclaration visitMethodDeclaration(J.MethodDeclaration method, ExecutionContext ctx) {
+            J.MethodDeclaration m = super.visitMethodDeclaration(method, ctx);
+            String name = m.getSimpleName();
+            if (!name.startsWith("get") || name.length() <= 3) {
+                return m;
+            }
+            J.Annotation generatedValue = generatedValue(m.getLeadingAnnotations());
+            if (generatedValue == null) {
+                return m;
+            }
+            return m.withLeadingAnnotations(visitGeneratedValue(generatedValue, m.getLeadingAnnotations(), m.getPrefix(),
+                    Character.toLowerCase(name.charAt(3)) + name.substring(4),
+                    m.getMethodType() == null ? null : m.getMethodType().getReturnType(), ctx));
+        }
+    }
+
+    /**
+     * @return the {@code @GeneratedValue} of an {@code @Id} attribute, or {@code null} when the attribute is not an
+     * identifier or names its generator. A {@code @GeneratedValue} outside of an {@code @Id} is removed by a later
+     * migration step.
+     */
+    static J.@Nullable Annotation generatedValue(List<J.Annotation> annotations) {
+        J.Annotation generatedValue = null;
+        boolean id = false;
+        for (J.Annotation annotation : annotations) {
+            if (RemoveInvalidHibernateGeneratedValueAnnotation.MATCHER_GENERATED_VALUE_ANNOTATION.matches(annotation)) {
+                generatedValue = annotation;
+            } else if (RemoveInvalidHibernateGeneratedValueAnnotation.MATCHER_ID_ANNOTATION.matches(annotation)) {
+                id = true;
+            } else if (TypeUtils.isOfClassType(annotation.getType(), "jakarta.persistence.SequenceGenerator") ||
+                       TypeUtils.isOfClassType(annotation.getType(), "javax.persistence.SequenceGenerator") ||
+                       TypeUtils.isOfClassType(annotation.getType(), "org.hibernate.annotations.GenericGenerator")) {
+                return null;
+            }
+        }
+        if (!id || generatedValue == null || TypeUtils.asFullyQualified(generatedValue.getType()) == null ||
+            argument(generatedValue, "generator") != null) {
+            return null;
+        }
+        return generatedValue;
+    }
+
+    /**
+     * @return {@code javax.persistence} or {@code jakarta.persistence}, whichever the {@code @GeneratedValue} is from.
+     */
+    static String persistencePackage(J.Annotation generatedValue) {
+        JavaType.FullyQualified type = TypeUtils.asFullyQualified(generatedValue.getType());
+        return type == null ? "jakarta.persistence" : type.getPackageName();
+    }
+
+    /**
+     * @return the name of the {@code GenerationType} constant of the strategy, {@code AUTO} when there is none, or
+     * {@code null} when it is not a constant.
+     */
+    static @Nullable String strategy(J.Annotation generatedValue) {
+        Expression strategy = argument(generatedValue, "strategy");
+        if (strategy == null) {
+            return "AUTO";
+        } else if (strategy instanceof J.FieldAccess) {
+            return ((J.FieldAccess) strategy).getSimpleName();
+        } else if (strategy instanceof J.Identifier) {
+            return ((J.Identifier) strategy).getSimpleName();
+        }
+        return null;
+    }
+
+    /**
+     * @return the {@code @GeneratedValue} with the strategy set to the given {@code GenerationType} constant.
+     */
+    static J.Annotation withStrategy(J.Annotation generatedValue, String constant) {
+        String generationType = persistencePackage(generatedValue) + ".GenerationType";
+        if (argument(generatedValue, "strategy") == null) {
+            J.Assignment strategy = AnnotationTrees.argument("strategy",
+                    AnnotationTrees.enumConstant(generationType, constant, Space.EMPTY), Space.EMPTY);
+            if (generatedValue.getArguments() == null) {
+                return generatedValue.withArguments(singletonList(strategy));
+            }
+            return generatedValue.withArguments(ListUtils.insert(
+                    ListUtils.map(generatedValue.getArguments(), arg -> arg instanceof J.Empty ? null : arg.withPrefix(Space.SINGLE_SPACE)),
+                    strategy, 0));
+        }
+        return generatedValue.withArguments(ListUtils.map(generatedValue.getArguments(), arg -> isArgument(arg, "strategy") ?
+                ((J.Assignment) arg).withAssignment(AnnotationTrees.enumConstant(generationType, constant,
+                        ((J.Assignment) arg).getAssignment().getPrefix())) :
+                arg));
+    }
+
+    /**
+     * Replaces the {@code @GeneratedValue} with one generated by the named sequence, followed by the
+     * {@code @SequenceGenerator} declaring it. Callers remain responsible for importing {@code GenerationType} and
+     * {@code SequenceGenerator}.
+     *
+     * @return the annotations of the attribute, with the {@code @SequenceGenerator} on a line of its own.
+     */
+    static List<J.Annotation> useSequence(List<J.Annotation> annotations, J.Annotation generatedValue, String sequence,
+                                          int allocationSize, Space declarationPrefix) {
+        J.Annotation sequenceStrategy = withStrategy(generatedValue, "SEQUENCE");
+        sequenceStrategy = sequenceStrategy.withArguments(ListUtils.concat(sequenceStrategy.getArguments(),
+                AnnotationTrees.argument("generator", AnnotationTrees.string(sequence, Space.EMPTY), Space.SINGLE_SPACE)));
+        J.Annotation sequenceGenerator = AnnotationTrees.annotation(persistencePackage(generatedValue) + ".SequenceGenerator",
+                Space.format("\n" + declarationPrefix.getIndent()),
+                AnnotationTrees.argument("name", AnnotationTrees.string(sequence, Space.EMPTY), Space.EMPTY),
+                AnnotationTrees.argument("sequenceName", AnnotationTrees.string(sequence, Space.EMPTY), Space.SINGLE_SPACE),
+                AnnotationTrees.argument("allocationSize", AnnotationTrees.integer(allocationSize, Space.EMPTY), Space.SINGLE_SPACE));
+        List<J.Annotation> updated = new ArrayList<>(annotations.size() + 1);
+        for (J.Annotation annotation : annotations) {
+            if (annotation == generatedValue) {
+                updated.add(sequenceStrategy);
+                updated.add(sequenceGenerator);
+            } else {
+                updated.add(annotation);
+            }
+        }
+        return updated;
+    }
+
+    static boolean isArgument(Expression arg, String name) {
+        return arg instanceof J.Assignment && ((J.Assignment) arg).getVariable() instanceof J.Identifier &&
+               name.equals(((J.Identifier) ((J.Assignment) arg).getVariable()).getSimpleName());
+    }
+
+    /**
+     * @return the value of the named argument of the annotation, or {@code null} when it is not given by name.
+     */
+    static @Nullable Expression argument(J.Annotation annotation, String name) {
+        if (annotation.getArguments() != null) {
+            for (Expression arg : annotation.getArguments()) {
+                if (isArgument(arg, name)) {
+                    return ((J.Assignment) arg).getAssignment();
+                }
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.hibernate;
+
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Option;
+import org.openrewrite.ScanningRecipe;
+import org.openrewrite.SourceFile;
+import org.openrewrite.Tree;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.gradle.marker.GradleDependencyConfiguration;
+import org.openrewrite.gradle.marker.GradleProject;
+import org.openrewrite.java.marker.JavaProject;
+import org.openrewrite.java.marker.JavaSourceSet;
+import org.openrewrite.marker.SearchResult;
+import org.openrewrite.maven.tree.MavenResolutionResult;
+import org.openrewrite.maven.tree.ResolvedDependency;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+@Value
+@EqualsAndHashCode(callSuper = false)
+public class HasHibernateVersionBefore extends ScanningRecipe<Map<JavaProject, int[]>> {
+
+    private static final String HIBERNATE_CORE = "hibernate-core";
+    private static final Pattern MAJOR_MINOR = Pattern.compile("^(\\d+)\\.(\\d+)");
+
+    @Option(displayName = "Version",
+            description = "The Hibernate ORM `major.minor` version that a project must not have reached yet.",
+            example = "6.4")
+    String version;
+
+    String displayName = "Find sources of projects on an older Hibernate ORM version";
+
+    String description = "Marks source files belonging to a project whose resolved `hibernate-core` dependency is older than the given version. " +
+      "The version of each project is read from the Maven or Gradle markers of its build file, so that the Java sources and configuration files " +
+      "of the project are placed along with it, and otherwise from the classpath of the Java source set of a source file. " +
+      "Source files for which no `hibernate-core` version can be determined are always marked, so that guarding a migration step with this recipe never skips a project it cannot place.";
+
+    @Override
+    public Map<JavaProject, int[]> getInitialValue(ExecutionContext ctx) {
+        return new HashMap<>();
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getScanner(Map<JavaProject, int[]> projects) {
+        return new TreeVisitor<Tree, ExecutionContext>() {
+            @Override
+            public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
+                if (tree instanceof SourceFile) {
+                    SourceFile sourceFile = (SourceFile) tree;
+                    Optional<JavaProject> project = sourceFile.getMarkers().findFirst(JavaProject.class);
+                    int @Nullable [] current = hibernateVersion(sourceFile);
+                    if (project.isPresent() && current != null) {
+                        projects.merge(project.get(), current, (known, found) -> compare(found, known) < 0 ? found : known);
+                    }
+                }
+                return tree;
+            }
+        };
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor(Map<JavaProject, int[]> projects) {
+        int @Nullable [] target = parse(version);
+        return new TreeVisitor<Tree, ExecutionContext>() {
+            @Override
+            public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
+                if (!(tree instanceof SourceFile)) {
+                    return tree;
+                }
+                SourceFile sourceFile = (SourceFile) tree;
+                int @Nullable [] current = sourceFile.getMarkers().findFirst(JavaProject.class)
+                        .map(projects::get)
+                        .orElseGet(() -> hibernateVersion(sourceFile));
+                if (target == null || current == null || compare(current, target) < 0) {
+                    return SearchResult.found(sourceFile);
+                }
+                return sourceFile;
+            }
+        };
+    }
+
+    /**
+     * @return the lowest {@code major.minor} version of {@code hibernate-core} resolved for the project of the source
+     * file, or {@code null} when the markers of the source file don't tell.
+     */
+    private static int @Nullable [] hibernateVersion(SourceFile sourceFile) {
+        int @Nullable [] lowest = null;
+        Optional<MavenResolutionResult> maven = sourceFile.getMarkers().findFirst(MavenResolutionResult.class);
+        if (maven.isPresent()) {
+            for (List<ResolvedDependency> dependencies : maven.get().getDependencies().values()) {
+                lowest = lowest(lowest, dependencies);
+            }
+        }
+        Optional<GradleProject> gradle = sourceFile.getMarkers().findFirst(GradleProject.class);
+        if (gradle.isPresent()) {
+            for (GradleDependencyConfiguration configuration : gradle.get().getConfigurations()) {
+                lowest = lowest(lowest, configuration.getResolved());
+            }
+        }
+        Optional<JavaSourceSet> sourceSet = sourceFile.getMarkers().findFirst(JavaSourceSet.class);
+        if (sourceSet.isPresent()) {
+            for (String gav : sourceSet.get().getGavToTypes().keySet()) {
+                String[] coordinates = gav.split(":");
+                if (coordinates.length == 3 && isHibernateCore(coordinates[0], coordinates[1])) {
+                    lowest = lowest(lowest, parse(coordinates[2]));
+                }
+            }
+        }
+        return lowest;
+    }
+
+    private static int @Nullable [] lowest(int @Nullable [] lowest, List<ResolvedDependency> dependencies) {
+        for (ResolvedDependency dependency : dependencies) {
+            if (isHibernateCore(dependency.getGroupId(), dependency.getArtifactId())) {
+                lowest = lowest(lowest, parse(dependency.getVersion()));
+            }
+        }
+        return lowest;
+    }
+
+    private static int @Nullable [] lowest(int @Nullable [] lowest, int @Nullable [] candidate) {
+        if (candidate == null) {
+            return lowest;
+        }
+        return lowest == null || compare(candidate, lowest) < 0 ? candidate : lowest;
+    }
+
+    private static boolean isHibernateCore(@Nullable String groupId, String artifactId) {
+        return ("org.hibernate".equals(groupId) || "org.hibernate.orm".equals(groupId)) &&
+               (HIBERNATE_CORE.equals(artifactId) || (HIBERNATE_CORE + "-jakarta").equals(artifactId));
+    }
+
+    private static int @Nullable [] parse(@Nullable String version) {
+        if (version == null) {
+            return null;
+        }
+        Matcher matcher = MAJOR_MINOR.matcher(version);
+        if (!matcher.find()) {
+            return null;
+        }
+        return new int[]{Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2))};
+    }
+
+    private static int compare(int[] left, int[] right) {
+        int major = Integer.compare(left[0], right[0]);
+        return major != 0 ? major : Integer.compare(left[1], right[1]);
+    }
+}
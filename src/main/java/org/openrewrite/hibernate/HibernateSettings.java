@@ -0,0 +1,165 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.hibernate;
+
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.Cursor;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Tree;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.properties.PropertiesIsoVisitor;
+import org.openrewrite.properties.tree.Properties;
+import org.openrewrite.xml.XmlIsoVisitor;
+import org.openrewrite.xml.tree.Xml;
+import org.openrewrite.yaml.YamlIsoVisitor;
+import org.openrewrite.yaml.tree.Yaml;
+
+import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static java.util.Collections.emptySet;
+
+/**
+ * The Hibernate dialects and the Hibernate or {@code spring.jpa} settings configured anywhere in a repository, as read
+ * from properties files, YAML files, {@code persistence.xml} and {@code hibernate.cfg.xml}. Every value found for a
+ * setting is kept, so that callers can tell a setting that is configured consistently from one that differs between
+ * environments. Settings passed through {@code spring.jpa.properties} are keyed without that prefix.
+ */
+final class HibernateSettings {
+
+    private static final Pattern DIALECT = Pattern.compile("org\\.hibernate\\.(?:community\\.)?dialect\\.(\\w+)");
+    private static final String SPRING_JPA_PROPERTIES = "spring.jpa.properties.";
+
+    /**
+     * The dialects of databases that support sequences in every version the dialect covers.
+     */
+    private static final Pattern SEQUENCE_DIALECTS = Pattern.compile(
+            "(PostgreSQL|PostgresPlus|CockroachDB|Oracle|H2|HSQL|DB2|Derby|SQLServer201[26]|MariaDB10[3-6])\\w*");
+
+    private final Set<String> dialects = new HashSet<>();
+    private final Map<String, Set<String>> settings = new HashMap<>();
+
+    /**
+     * @return the simple names of the dialect classes found, such as {@code PostgreSQLDialect}.
+     */
+    Set<String> getDialects() {
+        return dialects;
+    }
+
+    /**
+     * @return true when at least one dialect is configured and each of them matches the pattern.
+     */
+    boolean allDialectsMatch(Pattern dialect) {
+        return !dialects.isEmpty() && dialects.stream().allMatch(d -> dialect.matcher(d).matches());
+    }
+
+    boolean supportsSequences() {
+        return allDialectsMatch(SEQUENCE_DIALECTS);
+    }
+
+    /**
+     * @return the distinct values configured for the setting, empty when it is not configured at all.
+     */
+    Set<String> values(String setting) {
+        return settings.getOrDefault(setting, emptySet());
+    }
+
+    /**
+     * @return the value of the setting, or {@code null} when it is not configured or configured with different values.
+     */
+    @Nullable String value(String setting) {
+        Set<String> values = values(setting);
+        return values.size() == 1 ? values.iterator().next() : null;
+    }
+
+    void put(String setting, String value) {
+        String key = setting.startsWith(SPRING_JPA_PROPERTIES) ? setting.substring(SPRING_JPA_PROPERTIES.length()) : setting;
+        String trimmed = value.trim();
+        if (key.contains("hibernate")) {
+            settings.computeIfAbsent(key, k -> new HashSet<>()).add(trimmed);
+        }
+        Matcher matcher = DIALECT.matcher(trimmed);
+        if (matcher.matches()) {
+            dialects.add(matcher.group(1));
+        }
+    }
+
+    /**
+     * @param cursor the cursor positioned on a YAML mapping entry.
+     * @return the keys of the entry and of the entries enclosing it joined with dots, such as {@code hibernate.dialect},
+     * which nested and dotted keys have alike.
+     */
+    static String yamlKey(Cursor cursor) {
+        Deque<String> keys = new ArrayDeque<>();
+        cursor.getPathAsStream()
+                .filter(Yaml.Mapping.Entry.class::isInstance)
+                .forEach(e -> keys.addFirst(((Yaml.Mapping.Entry) e).getKey().getValue()));
+        return String.join(".", keys);
+    }
+
+    TreeVisitor<?, ExecutionContext> scanner() {
+        return new TreeVisitor<Tree, ExecutionContext>() {
+            @Override
+            public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
+                if (tree instanceof Properties.File) {
+                    new PropertiesIsoVisitor<Integer>() {
+                        @Override
+                        public Properties.Entry visitEntry(Properties.Entry entry, Integer p) {
+                            put(entry.getKey(), entry.getValue().getText());
+                            return entry;
+                        }
+                    }.visit(tree, 0);
+                } else if (tree instanceof Yaml.Documents) {
+                    new YamlIsoVisitor<Integer>() {
+                        @Override
+                        public Yaml.Mapping.Entry visitMappingEntry(Yaml.Mapping.Entry entry, Integer p) {
+                            if (entry.getValue() instanceof Yaml.Scalar) {
+                                put(yamlKey(getCursor()), ((Yaml.Scalar) entry.getValue()).getValue());
+                                return entry;
+                            }
+                            return super.visitMappingEntry(entry, p);
+                        }
+
+                    }.visit(tree, 0);
+                } else if (tree instanceof Xml.Document) {
+                    new XmlIsoVisitor<Integer>() {
+                        @Override
+                        public Xml.Tag visitTag(Xml.Tag tag, Integer p) {
+                            Optional<String> name = tag.getAttributes().stream()
+                                    .filter(attribute -> "name".equals(attribute.getKeyAsString()))
+                                    .map(Xml.Attribute::getValueAsString)
+                                    .findFirst();
+                            if ("property".equals(tag.getName()) && name.isPresent()) {
+                                // persistence.xml uses a value attribute, hibernate.cfg.xml the content of the tag,
+                                // where the "hibernate." prefix is optional
+                                String setting = name.get().startsWith("hibernate.") ? name.get() : "hibernate." + name.get();
+                                Optional<String> value = tag.getAttributes().stream()
+                                        .filter(attribute -> "value".equals(attribute.getKeyAsString()))
+                                        .map(Xml.Attribute::getValueAsString)
+                                        .findFirst();
+                                put(setting, value.orElseGet(() -> tag.getValue().orElse("")));
+                                return tag;
+                            }
+                            return super.visitTag(tag, p);
+                        }
+                    }.visit(tree, 0);
+                }
+                return tree;
+            }
+        };
+    }
+}
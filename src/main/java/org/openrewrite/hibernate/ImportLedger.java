@@ -0,0 +1,106 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.hibernate;
+
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.Cursor;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Tree;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.java.AddImport;
+import org.openrewrite.java.RemoveImport;
+import org.openrewrite.java.ShortenFullyQualifiedTypeReferences;
+import org.openrewrite.java.tree.JavaSourceFile;
+
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Merges the import changes a visitor requests while it walks a compilation unit, and applies them all from a single
+ * after visit: first the removals, then the additions, and finally the shortening of fully qualified type references.
+ * Requesting the same change for every match therefore costs nothing beyond the first request, where
+ * {@code maybeAddImport}, {@code maybeRemoveImport} and {@code doAfterVisit} schedule a visitor of their own.
+ */
+final class ImportLedger {
+
+    private static final String LEDGER = ImportLedger.class.getName() + ".LEDGER";
+
+    private final Set<String> removed = new LinkedHashSet<>();
+    private final Map<String, Boolean> added = new LinkedHashMap<>();
+    private boolean shorten;
+
+    private ImportLedger() {
+    }
+
+    /**
+     * @param cursor     the cursor of the visitor, positioned anywhere inside the compilation unit.
+     * @param afterVisit the {@code doAfterVisit} of the visitor, only called the first time a compilation unit asks
+     *                   for its ledger.
+     * @return the ledger of the compilation unit the cursor is in.
+     */
+    static ImportLedger of(Cursor cursor, Consumer<TreeVisitor<?, ExecutionContext>> afterVisit) {
+        Cursor sourceFile = cursor.getValue() instanceof JavaSourceFile ?
+                cursor :
+                cursor.dropParentUntil(JavaSourceFile.class::isInstance);
+        ImportLedger ledger = sourceFile.getMessage(LEDGER);
+        if (ledger == null) {
+            ledger = new ImportLedger();
+            sourceFile.putMessage(LEDGER, ledger);
+            afterVisit.accept(ledger.new Apply());
+        }
+        return ledger;
+    }
+
+    ImportLedger add(String fullyQualifiedName) {
+        return add(fullyQualifiedName, true);
+    }
+
+    ImportLedger add(String fullyQualifiedName, boolean onlyIfReferenced) {
+        // Once any request needs the import unconditionally, it is added unconditionally
+        added.merge(fullyQualifiedName, onlyIfReferenced, Boolean::logicalAnd);
+        return this;
+    }
+
+    ImportLedger remove(String fullyQualifiedName) {
+        removed.add(fullyQualifiedName);
+        return this;
+    }
+
+    ImportLedger shorten() {
+        shorten = true;
+        return this;
+    }
+
+    private class Apply extends TreeVisitor<Tree, ExecutionContext> {
+        @Override
+        public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
+            Tree t = tree;
+            for (String fullyQualifiedName : removed) {
+                t = new RemoveImport<ExecutionContext>(fullyQualifiedName).visit(t, ctx);
+            }
+            for (Map.Entry<String, Boolean> addition : added.entrySet()) {
+                t = new AddImport<ExecutionContext>(addition.getKey(), null, addition.getValue()).visit(t, ctx);
+            }
+            if (shorten) {
+                t = new ShortenFullyQualifiedTypeReferences().getVisitor().visit(t, ctx);
+            }
+            return t;
+        }
+    }
+}
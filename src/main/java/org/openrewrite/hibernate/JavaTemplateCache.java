@@ -0,0 +1,99 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.hibernate;
+
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.java.JavaTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps the {@link JavaTemplate}s built by the recipes of this module on the {@link ExecutionContext}, so that a
+ * template of a given shape is compiled once per run instead of once per match. Templates are keyed by their code,
+ * imports, parser classpath and context sensitivity, which means that only templates whose code is fixed, or varies
+ * over a small closed set of values, should be built through this cache.
+ */
+final class JavaTemplateCache {
+
+    private static final String TEMPLATES = JavaTemplateCache.class.getName() + ".TEMPLATES";
+
+    private JavaTemplateCache() {
+    }
+
+    /**
+     * @return the number of templates compiled so far with the execution context.
+     */
+    static int compilations(ExecutionContext ctx) {
+        Map<String, JavaTemplate> templates = ctx.getMessage(TEMPLATES);
+        return templates == null ? 0 : templates.size();
+    }
+
+    static Builder builder(String code) {
+        return new Builder(code);
+    }
+
+    static final class Builder {
+        private final String code;
+        private final List<String> imports = new ArrayList<>();
+        private final List<String> classpath = new ArrayList<>();
+        private boolean contextSensitive;
+
+        private Builder(String code) {
+            this.code = code;
+        }
+
+        Builder imports(String... fullyQualifiedTypeNames) {
+            imports.addAll(Arrays.asList(fullyQualifiedTypeNames));
+            return this;
+        }
+
+        Builder classpathFromResources(String... artifactNames) {
+            classpath.addAll(Arrays.asList(artifactNames));
+            return this;
+        }
+
+        Builder contextSensitive() {
+            contextSensitive = true;
+            return this;
+        }
+
+        JavaTemplate build(ExecutionContext ctx) {
+            Map<String, JavaTemplate> templates = ctx.computeMessageIfAbsent(TEMPLATES, k -> new ConcurrentHashMap<>());
+            return templates.computeIfAbsent(key(), k -> {
+                JavaParser.Builder<?, ?> parser = JavaParser.fromJavaVersion();
+                if (!classpath.isEmpty()) {
+                    parser = parser.classpath(ParserClasspath.fromResources(ctx, classpath));
+                }
+                JavaTemplate.Builder template = JavaTemplate.builder(code)
+                        .imports(imports.toArray(new String[0]))
+                        .javaParser(parser);
+                if (contextSensitive) {
+                    template = template.contextSensitive();
+                }
+                return template.build();
+            });
+        }
+
+        private String key() {
+            return code + '\u0000' + imports + '\u0000' + classpath + '\u0000' + contextSensitive;
+        }
+    }
+}
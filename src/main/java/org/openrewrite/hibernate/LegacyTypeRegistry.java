@@ -0,0 +1,192 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.hibernate;
+
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.java.tree.JavaType;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static java.util.Collections.unmodifiableMap;
+
+/**
+ * What the legacy {@code org.hibernate.type.*} types of Hibernate 5 become in Hibernate 6 and later, shared by all
+ * type-mapping recipes of this module. Nested type names are normalized up front, so a lookup is a single hash probe
+ * regardless of whether the name uses {@code $} or {@code .} to separate nested types.
+ */
+final class LegacyTypeRegistry {
+
+    private static final Map<String, LegacyType> LEGACY_TYPES;
+    private static final Map<String, String> BOOLEAN_ALIASES;
+    private static final Map<String, JavaType.FullyQualified> CLASS_TYPES;
+
+    static {
+        Map<String, LegacyType> types = new HashMap<>();
+        // value is constant name in StandardBasicTypes
+        basic(types, "org.hibernate.type.BigDecimalType", "BIG_DECIMAL");
+        basic(types, "org.hibernate.type.BigIntegerType", "BIG_INTEGER");
+        basic(types, "org.hibernate.type.BinaryType", "BINARY");
+        basic(types, "org.hibernate.type.BlobType", "BLOB");
+        basic(types, "org.hibernate.type.BooleanType", "BOOLEAN");
+        basic(types, "org.hibernate.type.ByteType", "BYTE");
+        basic(types, "org.hibernate.type.CalendarDateType", "CALENDAR_DATE");
+        basic(types, "org.hibernate.type.CalendarType", "CALENDAR");
+        basic(types, "org.hibernate.type.CharArrayType", "CHAR_ARRAY");
+        basic(types, "org.hibernate.type.CharacterArrayType", "CHARACTER_ARRAY");
+        basic(types, "org.hibernate.type.CharacterType", "CHARACTER");
+        basic(types, "org.hibernate.type.ClassType", "CLASS");
+        basic(types, "org.hibernate.type.ClobType", "CLOB");
+        basic(types, "org.hibernate.type.CurrencyType", "CURRENCY");
+        basic(types, "org.hibernate.type.DateType", "DATE");
+        basic(types, "org.hibernate.type.DoubleType", "DOUBLE");
+        basic(types, "org.hibernate.type.FloatType", "FLOAT");
+        basic(types, "org.hibernate.type.ImageType", "IMAGE");
+        basic(types, "org.hibernate.type.IntegerType", "INTEGER");
+        basic(types, "org.hibernate.type.LocaleType", "LOCALE");
+        basic(types, "org.hibernate.type.LongType", "LONG");
+        basic(types, "org.hibernate.type.MaterializedBlobType", "MATERIALIZED_BLOB");
+        basic(types, "org.hibernate.type.MaterializedClobType", "MATERIALIZED_CLOB");
+        basic(types, "org.hibernate.type.MaterializedNClobType", "MATERIALIZED_NCLOB");
+        basic(types, "org.hibernate.type.NClobType", "NCLOB");
+        basic(types, "org.hibernate.type.NTextType", "NTEXT");
+        basic(types, "org.hibernate.type.NumericBooleanType", "NUMERIC_BOOLEAN");
+        basic(types, "org.hibernate.type.RowVersionType", "ROW_VERSION");
+        basic(types, "org.hibernate.type.SerializableType", "SERIALIZABLE");
+        basic(types, "org.hibernate.type.ShortType", "SHORT");
+        basic(types, "org.hibernate.type.StringNVarcharType", "NSTRING");
+        basic(types, "org.hibernate.type.StringType", "STRING");
+        basic(types, "org.hibernate.type.TextType", "TEXT");
+        basic(types, "org.hibernate.type.TimeType", "TIME");
+        basic(types, "org.hibernate.type.TimeZoneType", "TIMEZONE");
+        basic(types, "org.hibernate.type.TimestampType", "TIMESTAMP");
+        basic(types, "org.hibernate.type.TrueFalseType", "TRUE_FALSE");
+        basic(types, "org.hibernate.type.UUIDBinaryType", "UUID_BINARY");
+        basic(types, "org.hibernate.type.UUIDCharType", "UUID_CHAR");
+        basic(types, "org.hibernate.type.UrlType", "URL");
+        basic(types, "org.hibernate.type.WrapperBinaryType", "WRAPPER_BINARY");
+        basic(types, "org.hibernate.type.YesNoType", "YES_NO");
+
+        // boolean mappings replaced by attribute converters
+        converter(types, "org.hibernate.type.TrueFalseType", "TrueFalseConverter");
+        converter(types, "org.hibernate.type.TrueFalseBooleanType", "TrueFalseConverter");
+        converter(types, "org.hibernate.type.YesNoType", "YesNoConverter");
+        converter(types, "org.hibernate.type.YesNoBooleanType", "YesNoConverter");
+        converter(types, "org.hibernate.type.NumericBooleanType", "NumericBooleanConverter");
+
+        // types without a replacement that can be referenced from @Type
+        removed(types, "org.hibernate.type.EnumType");
+        removed(types, "org.hibernate.type.SerializableType");
+        removed(types, "org.hibernate.type.SerializableToBlobType");
+        removed(types, "org.hibernate.type.TextType");
+        LEGACY_TYPES = unmodifiableMap(types);
+
+        Map<String, String> aliases = new HashMap<>();
+        aliases.put("true_false", "TrueFalseConverter");
+        aliases.put("yes_no", "YesNoConverter");
+        aliases.put("numeric_boolean", "NumericBooleanConverter");
+        BOOLEAN_ALIASES = unmodifiableMap(aliases);
+
+        // only the types this module inserts itself, so arbitrary user types never accumulate in a static cache
+        Map<String, JavaType.FullyQualified> classTypes = new HashMap<>();
+        for (String persistencePackage : new String[]{"jakarta.persistence", "javax.persistence"}) {
+            classType(classTypes, persistencePackage + ".Convert");
+            classType(classTypes, persistencePackage + ".FetchType");
+            classType(classTypes, persistencePackage + ".GenerationType");
+            classType(classTypes, persistencePackage + ".SequenceGenerator");
+        }
+        for (String converter : aliases.values()) {
+            classType(classTypes, "org.hibernate.type." + converter);
+        }
+        classType(classTypes, "java.lang.Class");
+        classType(classTypes, "java.lang.Object");
+        classType(classTypes, "org.hibernate.Interceptor");
+        classType(classTypes, "org.hibernate.resource.jdbc.spi.StatementInspector");
+        classType(classTypes, "org.hibernate.usertype.UserType");
+        CLASS_TYPES = unmodifiableMap(classTypes);
+    }
+
+    private LegacyTypeRegistry() {
+    }
+
+    /**
+     * @return the name of the {@code org.hibernate.type.StandardBasicTypes} constant replacing the legacy type.
+     */
+    static @Nullable String standardBasicTypesConstant(String legacyType) {
+        LegacyType type = LEGACY_TYPES.get(normalize(legacyType));
+        return type == null ? null : type.standardBasicTypesConstant;
+    }
+
+    /**
+     * @param legacyTypeOrAlias a legacy type name, or one of the boolean type aliases such as {@code yes_no}.
+     * @return the simple name of the {@code org.hibernate.type} attribute converter replacing a boolean mapping.
+     */
+    static @Nullable String booleanConverter(String legacyTypeOrAlias) {
+        String converter = BOOLEAN_ALIASES.get(legacyTypeOrAlias);
+        if (converter != null) {
+            return converter;
+        }
+        LegacyType type = LEGACY_TYPES.get(normalize(legacyTypeOrAlias));
+        return type == null ? null : type.booleanConverter;
+    }
+
+    /**
+     * @return whether the legacy type no longer exists and mappings referencing it should be dropped.
+     */
+    static boolean isRemoved(String legacyType) {
+        LegacyType type = LEGACY_TYPES.get(normalize(legacyType));
+        return type != null && type.removed;
+    }
+
+    /**
+     * @return a shared class type for the types this module inserts, so recipes do not build a new one for every
+     * match, or a fresh class type for any other name, such as a user type referenced from a mapping.
+     */
+    static JavaType.FullyQualified classType(String fullyQualifiedName) {
+        JavaType.FullyQualified type = CLASS_TYPES.get(fullyQualifiedName);
+        return type == null ? JavaType.ShallowClass.build(fullyQualifiedName) : type;
+    }
+
+    private static String normalize(String typeName) {
+        return typeName.replace('$', '.');
+    }
+
+    private static void basic(Map<String, LegacyType> types, String legacyType, String constant) {
+        types.computeIfAbsent(legacyType, k -> new LegacyType()).standardBasicTypesConstant = constant;
+    }
+
+    private static void converter(Map<String, LegacyType> types, String legacyType, String converter) {
+        types.computeIfAbsent(legacyType, k -> new LegacyType()).booleanConverter = converter;
+    }
+
+    private static void removed(Map<String, LegacyType> types, String legacyType) {
+        types.computeIfAbsent(legacyType, k -> new LegacyType()).removed = true;
+    }
+
+    private static void classType(Map<String, JavaType.FullyQualified> classTypes, String fullyQualifiedName) {
+        classTypes.put(fullyQualifiedName, JavaType.ShallowClass.build(fullyQualifiedName));
+    }
+
+    private static class LegacyType {
+        @Nullable
+        String standardBasicTypesConstant;
+
+        @Nullable
+        String booleanConverter;
+
+        boolean removed;
+    }
+}
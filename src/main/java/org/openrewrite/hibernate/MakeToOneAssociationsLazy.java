@@ -0,0 +1,158 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.hibernate;
+
+import lombok.Getter;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.hibernate.AssociationIndex.Association;
+import org.openrewrite.hibernate.table.LazyToOneAssociationReads;
+import org.openrewrite.internal.ListUtils;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.search.UsesType;
+import org.openrewrite.java.tree.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+public class MakeToOneAssociationsLazy extends ScanningRecipe<AssociationIndex> {
+
+    private static final Pattern JOIN_FETCH = Pattern.compile("(?i)\\bfetch\\s+\\w+\\.(\\w+)");
+    private static final String FETCHED_ATTRIBUTES = "FETCHED_ATTRIBUTES";
+
+    transient LazyToOneAssociationReads reads = new LazyToOneAssociationReads(this);
+
+    @Getter
+    final String displayName = "Fetch to-one associations lazily";
+
+    @Getter
+    final String description = "Adds `fetch = FetchType.LAZY` to `@ManyToOne` and `@OneToOne` mappings that rely on the eager default, " +
+      "which otherwise joins or selects the associated entity whenever the owning entity is loaded. " +
+      "Reads of these associations outside a method whose query string `join fetch`es them are listed, " +
+      "as they may now run a select of their own, or fail once the session is closed.";
+
+    @Getter
+    final Duration estimatedEffortPerOccurrence = Duration.ofMinutes(5);
+
+    @Override
+    public AssociationIndex getInitialValue(ExecutionContext ctx) {
+        return new AssociationIndex();
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getScanner(AssociationIndex associations) {
+        return associations.scanner();
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor(AssociationIndex associations) {
+        // Reads of the associations made lazy can only be found in sources referring to the entities declaring them
+        List<TreeVisitor<?, ExecutionContext>> uses = new ArrayList<>();
+        for (String persistencePackage : AssociationIndex.PERSISTENCE_PACKAGES) {
+            uses.add(new UsesType<>(persistencePackage + ".ManyToOne", true));
+            uses.add(new UsesType<>(persistencePackage + ".OneToOne", true));
+        }
+        for (String entity : associations.eagerToOneEntities()) {
+            uses.add(new UsesType<>(entity, true));
+        }
+        return Preconditions.check(Preconditions.or(uses.toArray(new TreeVisitor[0])), new JavaIsoVisitor<ExecutionContext>() {
+            @Override
+            public J.Annotation visitAnnotation(J.Annotation annotation, ExecutionContext ctx) {
+                J.Annotation a = super.visitAnnotation(annotation, ctx);
+                JavaType.FullyQualified type = TypeUtils.asFullyQualified(a.getType());
+                // The inverse side of a one-to-one can't be proxied, so it is loaded eagerly regardless
+                if (type == null || !Association.isToOne(type.getClassName()) ||
+                    AssociationIndex.declares(a, "fetch") || AssociationIndex.declares(a, "mappedBy")) {
+                    return a;
+                }
+                for (String persistencePackage : AssociationIndex.PERSISTENCE_PACKAGES) {
+                    if (AssociationIndex.isAssociation(type, persistencePackage)) {
+                        String fetchType = persistencePackage + ".FetchType";
+                        ImportLedger.of(getCursor(), this::doAfterVisit).add(fetchType, false);
+                        List<Expression> currentArgs = ListUtils.map(a.getArguments(), arg -> arg instanceof J.Empty ? null : arg);
+                        J.Assignment fetch = AnnotationTrees.argument("fetch",
+                                AnnotationTrees.enumConstant(fetchType, "LAZY", Space.EMPTY),
+                                currentArgs == null || currentArgs.isEmpty() ? Space.EMPTY : Space.SINGLE_SPACE);
+                        return a.withArguments(ListUtils.concat(currentArgs, fetch));
+                    }
+                }
+                return a;
+            }
+
+            @Override
+            public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
+                J.MethodInvocation m = super.visitMethodInvocation(method, ctx);
+                String attribute = AssociationIndex.attribute(m);
+                if (attribute == null || m.getMethodType() == null) {
+                    return m;
+                }
+                JavaType.FullyQualified entity = m.getMethodType().getDeclaringType();
+                Association association = associations.get(entity, attribute);
+                if (association == null || association.isCollection() || association.isFetchDeclared() || association.isInverse() ||
+                    AssociationIndex.isProxyIdAccess(getCursor(), m) || fetchedByQuery(attribute)) {
+                    return m;
+                }
+                J.ClassDeclaration classDecl = getCursor().firstEnclosing(J.ClassDeclaration.class);
+                if (classDecl == null || classDecl.getType() == null || TypeUtils.isOfType(classDecl.getType(), entity)) {
+                    // The entity reading its own association
+                    return m;
+                }
+                J.MethodDeclaration methodDecl = getCursor().firstEnclosing(J.MethodDeclaration.class);
+                reads.insertRow(ctx, new LazyToOneAssociationReads.Row(
+                        getCursor().firstEnclosingOrThrow(SourceFile.class).getSourcePath().toString(),
+                        classDecl.getType().getFullyQualifiedName() + (methodDecl == null ? "" : "#" + methodDecl.getSimpleName()),
+                        entity.getFullyQualifiedName(),
+                        "@" + association.getMapping() + " " + attribute,
+                        m.printTrimmed(getCursor())
+                ));
+                return m;
+            }
+
+            /**
+             * @return whether a string literal of the enclosing method, such as a query, {@code join fetch}es an
+             * attribute of that name.
+             */
+            private boolean fetchedByQuery(String attribute) {
+                Cursor methodCursor = getCursor().dropParentUntil(p -> p instanceof J.MethodDeclaration || p instanceof SourceFile);
+                if (!(methodCursor.getValue() instanceof J.MethodDeclaration)) {
+                    return false;
+                }
+                Set<String> fetched = methodCursor.computeMessageIfAbsent(FETCHED_ATTRIBUTES, k -> {
+                    Set<String> attributes = new HashSet<>();
+                    new JavaIsoVisitor<Set<String>>() {
+                        @Override
+                        public J.Literal visitLiteral(J.Literal literal, Set<String> attributes) {
+                            if (literal.getValue() instanceof String) {
+                                Matcher matcher = JOIN_FETCH.matcher((String) literal.getValue());
+                                while (matcher.find()) {
+                                    attributes.add(matcher.group(1));
+                                }
+                            }
+                            return literal;
+                        }
+                    }.visit(methodCursor.<J.MethodDeclaration>getValue().getBody(), attributes);
+                    return attributes;
+                });
+                return fetched.contains(attribute);
+            }
+        });
+    }
+}
@@ -0,0 +1,214 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.hibernate;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.config.Environment;
+import org.openrewrite.hibernate.table.HibernateRecipePerformance;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static java.util.Collections.singletonList;
+import static java.util.stream.Collectors.toList;
+
+@Value
+@EqualsAndHashCode(callSuper = false)
+public class MeasureRecipePerformance extends ScanningRecipe<HibernateRecipePerformance> {
+
+    transient HibernateRecipePerformance performance = new HibernateRecipePerformance(this);
+
+    /**
+     * The measured recipe, loaded from the classpath the first time the recipe list is asked for.
+     */
+    @Getter(AccessLevel.NONE)
+    transient AtomicReference<@Nullable List<Recipe>> measured = new AtomicReference<>();
+
+    @Option(displayName = "Recipe",
+            description = "The fully qualified name of the recipe to run while measuring the Hibernate recipes it consists of.",
+            example = "org.openrewrite.hibernate.MigrateToHibernate70")
+    String recipe;
+
+    String displayName = "Measure the performance of Hibernate recipes";
+
+    String description = "Runs the given recipe and records, for every recipe of the Hibernate module it includes and every source file, " +
+      "the visit wall time, the number of template compilations and after visits, whether the file passed the precondition of the recipe " +
+      "and whether the recipe changed it. " +
+      "Running the recipe directly records nothing.";
+
+    @Override
+    public List<Recipe> getRecipeList() {
+        List<Recipe> recipes = measured.get();
+        if (recipes == null) {
+            recipes = singletonList(measured(Environment.builder()
+                    .scanRuntimeClasspath("org.openrewrite")
+                    .build()
+                    .activateRecipes(recipe)));
+            measured.compareAndSet(null, recipes);
+        }
+        return recipes;
+    }
+
+    @Override
+    public HibernateRecipePerformance getInitialValue(ExecutionContext ctx) {
+        // Scanning happens before any recipe edits, so every measured visit sees the table
+        RecipePerformance.enable(ctx, performance);
+        return performance;
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getScanner(HibernateRecipePerformance acc) {
+        return TreeVisitor.noop();
+    }
+
+    /**
+     * @return the recipe, with the visitors of the recipes of this module it consists of measured.
+     */
+    private static Recipe measured(Recipe recipe) {
+        if (recipe instanceof ScanningRecipe) {
+            return measuredScanning((ScanningRecipe<?>) recipe);
+        }
+        return new MeasuredRecipe(recipe);
+    }
+
+    private static <T> Recipe measuredScanning(ScanningRecipe<T> recipe) {
+        return new MeasuredScanningRecipe<>(recipe);
+    }
+
+    private static boolean isHibernateRecipe(Recipe recipe) {
+        return recipe.getClass().getName().startsWith("org.openrewrite.hibernate.");
+    }
+
+    private static class MeasuredRecipe extends Recipe {
+        private final Recipe delegate;
+
+        MeasuredRecipe(Recipe delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public String getName() {
+            return delegate.getName();
+        }
+
+        @Override
+        public String getDisplayName() {
+            return delegate.getDisplayName();
+        }
+
+        @Override
+        public String getDescription() {
+            return delegate.getDescription();
+        }
+
+        @Override
+        public @Nullable Duration getEstimatedEffortPerOccurrence() {
+            return delegate.getEstimatedEffortPerOccurrence();
+        }
+
+        @Override
+        public int maxCycles() {
+            return delegate.maxCycles();
+        }
+
+        @Override
+        public boolean causesAnotherCycle() {
+            return delegate.causesAnotherCycle();
+        }
+
+        @Override
+        public TreeVisitor<?, ExecutionContext> getVisitor() {
+            TreeVisitor<?, ExecutionContext> visitor = delegate.getVisitor();
+            return isHibernateRecipe(delegate) ? RecipePerformance.measure(delegate, visitor) : visitor;
+        }
+
+        @Override
+        public List<Recipe> getRecipeList() {
+            return delegate.getRecipeList().stream().map(MeasureRecipePerformance::measured).collect(toList());
+        }
+    }
+
+    private static class MeasuredScanningRecipe<T> extends ScanningRecipe<T> {
+        private final ScanningRecipe<T> delegate;
+
+        MeasuredScanningRecipe(ScanningRecipe<T> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public String getName() {
+            return delegate.getName();
+        }
+
+        @Override
+        public String getDisplayName() {
+            return delegate.getDisplayName();
+        }
+
+        @Override
+        public String getDescription() {
+            return delegate.getDescription();
+        }
+
+        @Override
+        public @Nullable Duration getEstimatedEffortPerOccurrence() {
+            return delegate.getEstimatedEffortPerOccurrence();
+        }
+
+        @Override
+        public int maxCycles() {
+            return delegate.maxCycles();
+        }
+
+        @Override
+        public boolean causesAnotherCycle() {
+            return delegate.causesAnotherCycle();
+        }
+
+        @Override
+        public T getInitialValue(ExecutionContext ctx) {
+            return delegate.getInitialValue(ctx);
+        }
+
+        @Override
+        public TreeVisitor<?, ExecutionContext> getScanner(T acc) {
+            return delegate.getScanner(acc);
+        }
+
+        @Override
+        public Collection<? extends SourceFile> generate(T acc, Collection<SourceFile> generatedInThisCycle, ExecutionContext ctx) {
+            return delegate.generate(acc, generatedInThisCycle, ctx);
+        }
+
+        @Override
+        public TreeVisitor<?, ExecutionContext> getVisitor(T acc) {
+            TreeVisitor<?, ExecutionContext> visitor = delegate.getVisitor(acc);
+            return isHibernateRecipe(delegate) ? RecipePerformance.measure(delegate, visitor) : visitor;
+        }
+
+        @Override
+        public List<Recipe> getRecipeList() {
+            return delegate.getRecipeList().stream().map(MeasureRecipePerformance::measured).collect(toList());
+        }
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.hibernate;
+
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.JavaType;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Renames method invocations and method references for a whole table of method patterns in a single pass. Patterns
+ * are indexed by their simple method name, so an invocation costs one hash lookup before any type matching happens.
+ */
+class MethodRenameVisitor extends JavaIsoVisitor<ExecutionContext> {
+
+    private final Map<String, List<Rename>> renamesByMethodName = new HashMap<>();
+
+    /**
+     * @param renames method patterns, as accepted by {@link MethodMatcher}, mapped to the new method name.
+     */
+    MethodRenameVisitor(Map<String, String> renames) {
+        for (Map.Entry<String, String> rename : renames.entrySet()) {
+            String methodName = simpleMethodName(rename.getKey());
+            renamesByMethodName.computeIfAbsent(methodName, k -> new ArrayList<>())
+                    .add(new Rename(new MethodMatcher(rename.getKey()), rename.getValue()));
+        }
+    }
+
+    @Override
+    public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
+        J.MethodInvocation m = super.visitMethodInvocation(method, ctx);
+        List<Rename> candidates = renamesByMethodName.get(m.getSimpleName());
+        if (candidates == null) {
+            return m;
+        }
+        for (Rename rename : candidates) {
+            if (rename.matcher.matches(m)) {
+                JavaType.Method type = m.getMethodType() == null ? null : m.getMethodType().withName(rename.newName);
+                return m.withName(m.getName().withSimpleName(rename.newName).withType(type)).withMethodType(type);
+            }
+        }
+        return m;
+    }
+
+    @Override
+    public J.MemberReference visitMemberReference(J.MemberReference memberRef, ExecutionContext ctx) {
+        J.MemberReference m = super.visitMemberReference(memberRef, ctx);
+        List<Rename> candidates = renamesByMethodName.get(m.getReference().getSimpleName());
+        if (candidates == null) {
+            return m;
+        }
+        for (Rename rename : candidates) {
+            if (rename.matcher.matches(m.getMethodType())) {
+                JavaType.Method type = m.getMethodType() == null ? null : m.getMethodType().withName(rename.newName);
+                return m.withReference(m.getReference().withSimpleName(rename.newName).withType(type)).withMethodType(type);
+            }
+        }
+        return m;
+    }
+
+    private static String simpleMethodName(String methodPattern) {
+        String beforeArguments = methodPattern.substring(0, methodPattern.indexOf('(')).trim();
+        return beforeArguments.substring(beforeArguments.lastIndexOf(' ') + 1);
+    }
+
+    private static class Rename {
+        final MethodMatcher matcher;
+        final String newName;
+
+        Rename(MethodMatcher matcher, String newName) {
+            this.matcher = matcher;
+            this.newName = newName;
+        }
+    }
+}
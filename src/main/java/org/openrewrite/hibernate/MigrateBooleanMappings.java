@@ -21,36 +21,19 @@ import org.openrewrite.ExecutionContext;
 import org.openrewrite.Preconditions;
 import org.openrewrite.Recipe;
 import org.openrewrite.TreeVisitor;
-import org.openrewrite.java.JavaIsoVisitor;
-import org.openrewrite.java.JavaParser;
-import org.openrewrite.java.JavaTemplate;
 import org.openrewrite.java.search.UsesType;
 import org.openrewrite.java.tree.Expression;
 import org.openrewrite.java.tree.J;
 import org.openrewrite.java.tree.JavaType;
+import org.openrewrite.java.tree.Space;
 import org.openrewrite.java.tree.TypeUtils;
 
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
+import java.util.Set;
 
-public class MigrateBooleanMappings extends Recipe {
-
-    private static final Map<String, String> REPLACEMENTS = new HashMap<>();
+import static java.util.Collections.singleton;
 
-    static {
-        // true/false boolean
-        REPLACEMENTS.put("true_false", "TrueFalseConverter");
-        REPLACEMENTS.put("org.hibernate.type.TrueFalseType", "TrueFalseConverter");
-        REPLACEMENTS.put("org.hibernate.type.TrueFalseBooleanType", "TrueFalseConverter");
-        // yes/no boolean
-        REPLACEMENTS.put("yes_no", "YesNoConverter");
-        REPLACEMENTS.put("org.hibernate.type.YesNoType", "YesNoConverter");
-        REPLACEMENTS.put("org.hibernate.type.YesNoBooleanType", "YesNoConverter");
-        // numeric boolean
-        REPLACEMENTS.put("numeric_boolean", "NumericBooleanConverter");
-        REPLACEMENTS.put("org.hibernate.type.NumericBooleanType", "NumericBooleanConverter");
-    }
+public class MigrateBooleanMappings extends Recipe {
 
     @Getter
     final String displayName = "Replace boolean type mappings with converters";
@@ -60,83 +43,87 @@ public class MigrateBooleanMappings extends Recipe {
 
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return Preconditions.check(new UsesType<>("org.hibernate.annotations.Type", true),
-                new JavaIsoVisitor<ExecutionContext>() {
-                    @Override
-                    public J.Annotation visitAnnotation(J.Annotation annotation, ExecutionContext ctx) {
-                        J.Annotation ann = super.visitAnnotation(annotation, ctx);
-                        if (!TypeUtils.isOfClassType(ann.getType(), "org.hibernate.annotations.Type")) {
-                            return ann;
-                        }
-                        List<Expression> args = ann.getArguments();
-                        if (args == null) {
-                            return ann;
-                        }
+        Handler handler = new Handler();
+        return Preconditions.check(handler.getPrecondition(), new AnnotationDispatcher(handler));
+    }
 
-                        String converterName = null;
-                        String legacyClassFQN = null;
-                        for (Expression arg : args) {
-                            String key;
-                            if (arg instanceof J.Assignment) {
-                                J.Assignment a = (J.Assignment) arg;
-                                if (!(a.getVariable() instanceof J.Identifier)) {
-                                    continue;
-                                }
-                                String attr = ((J.Identifier) a.getVariable()).getSimpleName();
-                                if ("type".equals(attr) && a.getAssignment() instanceof J.Literal) {
-                                    Object v = ((J.Literal) a.getAssignment()).getValue();
-                                    key = v instanceof String ? (String) v : null;
-                                } else if ("value".equals(attr)) {
-                                    legacyClassFQN = classRefFQN(a.getAssignment());
-                                    key = legacyClassFQN;
-                                } else {
-                                    continue;
-                                }
-                            } else if (args.size() == 1) {
-                                legacyClassFQN = classRefFQN(arg);
-                                key = legacyClassFQN;
-                            } else {
-                                continue;
-                            }
-                            if (key != null) {
-                                converterName = REPLACEMENTS.get(key);
-                                if (converterName != null) {
-                                    break;
-                                }
-                            }
-                        }
-                        if (converterName == null) {
-                            return ann;
-                        }
+    static class Handler implements AnnotationHandler {
 
-                        String converterFQN = "org.hibernate.type." + converterName;
-                        ann = JavaTemplate.builder("@Convert(converter = " + converterName + ".class)")
-                                .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "hibernate-core-6+", "jakarta.persistence-api"))
-                                .imports(converterFQN, "jakarta.persistence.Convert")
-                                .contextSensitive()
-                                .build().apply(getCursor(), ann.getCoordinates().replace());
+        @Getter
+        final Set<String> annotationTypes = singleton("org.hibernate.annotations.Type");
 
-                        maybeRemoveImport("org.hibernate.annotations.Type");
-                        if (legacyClassFQN != null) {
-                            maybeRemoveImport(legacyClassFQN);
-                        }
-                        maybeAddImport("jakarta.persistence.Convert");
-                        maybeAddImport(converterFQN);
-                        return ann;
-                    }
+        @Override
+        public TreeVisitor<?, ExecutionContext> getPrecondition() {
+            return new UsesType<>("org.hibernate.annotations.Type", true);
+        }
+
+        @Override
+        public J.Annotation visitAnnotation(AnnotationDispatcher dispatcher, J.Annotation original, J.Annotation annotation, ExecutionContext ctx) {
+            J.Annotation ann = annotation;
+            List<Expression> args = ann.getArguments();
+            if (args == null) {
+                return ann;
+            }
 
-                    private @Nullable String classRefFQN(Expression expr) {
-                        if (!(expr instanceof J.FieldAccess)) {
-                            return null;
-                        }
-                        J.FieldAccess fa = (J.FieldAccess) expr;
-                        if (!"class".equals(fa.getName().getSimpleName())) {
-                            return null;
-                        }
-                        JavaType.FullyQualified fqn = TypeUtils.asFullyQualified(fa.getTarget().getType());
-                        return fqn == null ? null : fqn.getFullyQualifiedName();
+            String converterName = null;
+            String legacyClassFQN = null;
+            for (Expression arg : args) {
+                String key;
+                if (arg instanceof J.Assignment) {
+                    J.Assignment a = (J.Assignment) arg;
+                    if (!(a.getVariable() instanceof J.Identifier)) {
+                        continue;
+                    }
+                    String attr = ((J.Identifier) a.getVariable()).getSimpleName();
+                    if ("type".equals(attr) && a.getAssignment() instanceof J.Literal) {
+                        Object v = ((J.Literal) a.getAssignment()).getValue();
+                        key = v instanceof String ? (String) v : null;
+                    } else if ("value".equals(attr)) {
+                        legacyClassFQN = classRefFQN(a.getAssignment());
+                        key = legacyClassFQN;
+                    } else {
+                        continue;
+                    }
+                } else if (args.size() == 1) {
+                    legacyClassFQN = classRefFQN(arg);
+                    key = legacyClassFQN;
+                } else {
+                    continue;
+                }
+                if (key != null) {
+                    converterName = LegacyTypeRegistry.booleanConverter(key);
+                    if (converterName != null) {
+                        break;
                     }
                 }
-        );
+            }
+            if (converterName == null) {
+                return ann;
+            }
+
+            String converterFQN = "org.hibernate.type." + converterName;
+            ann = AnnotationTrees.annotation("jakarta.persistence.Convert", ann.getPrefix(),
+                    AnnotationTrees.argument("converter", AnnotationTrees.classReference(converterFQN, Space.EMPTY), Space.EMPTY));
+
+            dispatcher.imports().remove("org.hibernate.annotations.Type");
+            if (legacyClassFQN != null) {
+                dispatcher.imports().remove(legacyClassFQN);
+            }
+            dispatcher.imports().add("jakarta.persistence.Convert");
+            dispatcher.imports().add(converterFQN);
+            return ann;
+        }
+
+        private @Nullable String classRefFQN(Expression expr) {
+            if (!(expr instanceof J.FieldAccess)) {
+                return null;
+            }
+            J.FieldAccess fa = (J.FieldAccess) expr;
+            if (!"class".equals(fa.getName().getSimpleName())) {
+                return null;
+            }
+            JavaType.FullyQualified fqn = TypeUtils.asFullyQualified(fa.getTarget().getType());
+            return fqn == null ? null : fqn.getFullyQualifiedName();
+        }
     }
 }
@@ -0,0 +1,182 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.hibernate;
+
+import lombok.Getter;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Recipe;
+import org.openrewrite.Tree;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.java.ChangeType;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.JavaSourceFile;
+import org.openrewrite.java.tree.JavaType;
+import org.openrewrite.properties.PropertiesIsoVisitor;
+import org.openrewrite.properties.tree.Properties;
+import org.openrewrite.xml.XmlIsoVisitor;
+import org.openrewrite.xml.tree.Xml;
+import org.openrewrite.yaml.YamlIsoVisitor;
+import org.openrewrite.yaml.tree.Yaml;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static java.util.Collections.unmodifiableMap;
+
+public class MigrateDialect extends Recipe {
+
+    private static final Map<String, String> DIALECTS;
+
+    static {
+        Map<String, String> dialects = new LinkedHashMap<>();
+        // MySQL dialects
+        dialects.put("org.hibernate.dialect.MySQL5Dialect", "org.hibernate.dialect.MySQLDialect");
+        dialects.put("org.hibernate.dialect.MySQL55Dialect", "org.hibernate.dialect.MySQLDialect");
+        dialects.put("org.hibernate.dialect.MySQL57Dialect", "org.hibernate.dialect.MySQLDialect");
+        dialects.put("org.hibernate.dialect.MySQL8Dialect", "org.hibernate.dialect.MySQLDialect");
+        // MariaDB dialects
+        dialects.put("org.hibernate.dialect.MariaDB53Dialect", "org.hibernate.dialect.MariaDBDialect");
+        dialects.put("org.hibernate.dialect.MariaDB10Dialect", "org.hibernate.dialect.MariaDBDialect");
+        dialects.put("org.hibernate.dialect.MariaDB102Dialect", "org.hibernate.dialect.MariaDBDialect");
+        dialects.put("org.hibernate.dialect.MariaDB103Dialect", "org.hibernate.dialect.MariaDBDialect");
+        // PostgreSQL dialects
+        dialects.put("org.hibernate.dialect.PostgreSQL81Dialect", "org.hibernate.dialect.PostgreSQLDialect");
+        dialects.put("org.hibernate.dialect.PostgreSQL82Dialect", "org.hibernate.dialect.PostgreSQLDialect");
+        dialects.put("org.hibernate.dialect.PostgreSQL9Dialect", "org.hibernate.dialect.PostgreSQLDialect");
+        dialects.put("org.hibernate.dialect.PostgreSQL91Dialect", "org.hibernate.dialect.PostgreSQLDialect");
+        dialects.put("org.hibernate.dialect.PostgreSQL92Dialect", "org.hibernate.dialect.PostgreSQLDialect");
+        dialects.put("org.hibernate.dialect.PostgreSQL93Dialect", "org.hibernate.dialect.PostgreSQLDialect");
+        dialects.put("org.hibernate.dialect.PostgreSQL94Dialect", "org.hibernate.dialect.PostgreSQLDialect");
+        dialects.put("org.hibernate.dialect.PostgreSQL95Dialect", "org.hibernate.dialect.PostgreSQLDialect");
+        dialects.put("org.hibernate.dialect.PostgreSQL10Dialect", "org.hibernate.dialect.PostgreSQLDialect");
+        // Oracle dialects
+        dialects.put("org.hibernate.dialect.Oracle8iDialect", "org.hibernate.dialect.OracleDialect");
+        dialects.put("org.hibernate.dialect.Oracle9iDialect", "org.hibernate.dialect.OracleDialect");
+        dialects.put("org.hibernate.dialect.Oracle10gDialect", "org.hibernate.dialect.OracleDialect");
+        dialects.put("org.hibernate.dialect.Oracle12cDialect", "org.hibernate.dialect.OracleDialect");
+        // SQL Server dialects
+        dialects.put("org.hibernate.dialect.SQLServer2005Dialect", "org.hibernate.dialect.SQLServerDialect");
+        dialects.put("org.hibernate.dialect.SQLServer2008Dialect", "org.hibernate.dialect.SQLServerDialect");
+        dialects.put("org.hibernate.dialect.SQLServer2012Dialect", "org.hibernate.dialect.SQLServerDialect");
+        dialects.put("org.hibernate.dialect.SQLServer2016Dialect", "org.hibernate.dialect.SQLServerDialect");
+        DIALECTS = unmodifiableMap(dialects);
+    }
+
+    @Getter
+    final String displayName = "Migrate Hibernate dialect to the generic dialect";
+
+    @Getter
+    final String description = "Migrate all Hibernate version-specific dialect classes to their generic equivalents. " +
+      "Version-specific dialects were deprecated in Hibernate 6.0 and removed in Hibernate 6.2. " +
+      "Type references and string literals in Java sources are migrated, as well as any value of a properties, YAML or XML file " +
+      "that is the fully qualified name of a legacy dialect, such as `hibernate.dialect`, `spring.jpa.database-platform`, " +
+      "`quarkus.hibernate-orm.dialect` or the properties of a Spring XML session factory.";
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return new TreeVisitor<Tree, ExecutionContext>() {
+            @Override
+            public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
+                if (tree instanceof JavaSourceFile) {
+                    return visitJava((JavaSourceFile) tree, ctx);
+                } else if (tree instanceof Properties.File) {
+                    return new DialectPropertiesVisitor().visit(tree, ctx);
+                } else if (tree instanceof Yaml.Documents) {
+                    return new DialectYamlVisitor().visit(tree, ctx);
+                } else if (tree instanceof Xml.Document) {
+                    return new DialectXmlVisitor().visit(tree, ctx);
+                }
+                return tree;
+            }
+
+            private @Nullable Tree visitJava(JavaSourceFile sourceFile, ExecutionContext ctx) {
+                Tree tree = new DialectLiteralVisitor().visit(sourceFile, ctx);
+                // Consult the types in use so that only the dialects actually referenced cost a traversal
+                for (JavaType type : sourceFile.getTypesInUse().getTypesInUse()) {
+                    if (type instanceof JavaType.FullyQualified) {
+                        String fqn = ((JavaType.FullyQualified) type).getFullyQualifiedName();
+                        String replacement = DIALECTS.get(fqn);
+                        if (replacement != null) {
+                            tree = new ChangeType(fqn, replacement, null).getVisitor().visit(tree, ctx);
+                        }
+                    }
+                }
+                return tree;
+            }
+        };
+    }
+
+    private static class DialectLiteralVisitor extends JavaIsoVisitor<ExecutionContext> {
+        @Override
+        public J.Literal visitLiteral(J.Literal literal, ExecutionContext ctx) {
+            J.Literal l = super.visitLiteral(literal, ctx);
+            if (l.getValue() instanceof String) {
+                String replacement = DIALECTS.get((String) l.getValue());
+                if (replacement != null) {
+                    return l.withValue(replacement).withValueSource("\"" + replacement + "\"");
+                }
+            }
+            return l;
+        }
+    }
+
+    private static class DialectPropertiesVisitor extends PropertiesIsoVisitor<ExecutionContext> {
+        @Override
+        public Properties.Entry visitEntry(Properties.Entry entry, ExecutionContext ctx) {
+            Properties.Entry e = super.visitEntry(entry, ctx);
+            String replacement = DIALECTS.get(e.getValue().getText().trim());
+            if (replacement != null) {
+                return e.withValue(e.getValue().withText(replacement));
+            }
+            return e;
+        }
+    }
+
+    private static class DialectYamlVisitor extends YamlIsoVisitor<ExecutionContext> {
+        @Override
+        public Yaml.Scalar visitScalar(Yaml.Scalar scalar, ExecutionContext ctx) {
+            Yaml.Scalar s = super.visitScalar(scalar, ctx);
+            String replacement = DIALECTS.get(s.getValue().trim());
+            if (replacement != null) {
+                return s.withValue(replacement);
+            }
+            return s;
+        }
+    }
+
+    /**
+     * Handles attribute values, such as {@code <property name="hibernate.dialect" value="..."/>} in
+     * {@code persistence.xml}, as well as element text, such as {@code <prop key="hibernate.dialect">...</prop>} in
+     * Spring XML or {@code <property name="dialect">...</property>} in {@code hibernate.cfg.xml}.
+     */
+    private static class DialectXmlVisitor extends XmlIsoVisitor<ExecutionContext> {
+        @Override
+        public Xml.Attribute visitAttribute(Xml.Attribute attribute, ExecutionContext ctx) {
+            Xml.Attribute a = super.visitAttribute(attribute, ctx);
+            String replacement = DIALECTS.get(a.getValueAsString().trim());
+            return replacement == null ? a : a.withValue(a.getValue().withValue(replacement));
+        }
+
+        @Override
+        public Xml.Tag visitTag(Xml.Tag tag, ExecutionContext ctx) {
+            Xml.Tag t = super.visitTag(tag, ctx);
+            String replacement = t.getValue().map(value -> DIALECTS.get(value.trim())).orElse(null);
+            return replacement == null ? t : t.withValue(replacement);
+        }
+    }
+}
@@ -0,0 +1,223 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.hibernate;
+
+import lombok.Getter;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.Cursor;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Recipe;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.internal.StringUtils;
+import org.openrewrite.maven.MavenDownloadingException;
+import org.openrewrite.maven.MavenIsoVisitor;
+import org.openrewrite.maven.internal.MavenPomDownloader;
+import org.openrewrite.maven.tree.*;
+import org.openrewrite.semver.Semver;
+import org.openrewrite.semver.VersionComparator;
+import org.openrewrite.xml.XPathMatcher;
+import org.openrewrite.xml.tree.Xml;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.unmodifiableList;
+import static java.util.Objects.requireNonNull;
+
+public class MigrateHibernateCoordinates60 extends Recipe {
+
+    private static final String LEGACY_GROUP_ID = "org.hibernate";
+    private static final String RESOLVED_VERSIONS = MigrateHibernateCoordinates60.class.getName() + ".RESOLVED_VERSIONS";
+    private static final XPathMatcher DEPENDENCY = new XPathMatcher("//dependencies/dependency");
+
+    /**
+     * The coordinates of {@code org.hibernate} artifacts in Hibernate 6.0, in the order they are matched.
+     */
+    private static final List<Coordinate> COORDINATES;
+
+    static {
+        List<Coordinate> coordinates = new ArrayList<>();
+        // Jakarta-suffixed artifacts need artifact renaming
+        for (String artifact : asList("agroal", "c3p0", "community-dialects", "core", "envers", "graalvm", "hikaricp",
+                "jcache", "jpamodelgen", "micrometer", "proxool", "spatial", "testing")) {
+            coordinates.add(new Coordinate("hibernate-" + artifact + "-jakarta", "org.hibernate.orm", "hibernate-" + artifact, "6.0.x"));
+        }
+        // Remove hibernate-entitymanager before the glob matches it
+        coordinates.add(new Coordinate("hibernate-entitymanager", null, null, null));
+        coordinates.add(new Coordinate("hibernate-validator", "org.hibernate.validator", null, "8.0.x"));
+        coordinates.add(new Coordinate("hibernate-*", "org.hibernate.orm", null, "6.0.x"));
+        COORDINATES = unmodifiableList(coordinates);
+    }
+
+    @Getter
+    final String displayName = "Migrate Hibernate Maven coordinates to 6.0.x";
+
+    @Getter
+    final String description = "Moves the `org.hibernate` dependencies and managed dependencies of a Maven build to the `org.hibernate.orm` " +
+      "and `org.hibernate.validator` group IDs of Hibernate 6.0, dropping the `-jakarta` artifact suffix and removing `hibernate-entitymanager`. " +
+      "All coordinates of a `pom.xml` are rewritten in a single pass, and the `6.0.x` and `8.0.x` versions are resolved once per group ID. " +
+      "A version property shared by the migrated dependencies is updated rather than inlined.";
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return new MavenIsoVisitor<ExecutionContext>() {
+            final Map<String, String> versionProperties = new HashMap<>();
+
+            @Override
+            public Xml.Document visitDocument(Xml.Document document, ExecutionContext ctx) {
+                versionProperties.clear();
+                Pom requested = getResolutionResult().getPom().getRequested();
+                for (Dependency dependency : requested.getDependencies()) {
+                    collectVersionProperty(dependency.getGroupId(), dependency.getArtifactId(), dependency.getVersion(), ctx);
+                }
+                for (ManagedDependency dependency : requested.getDependencyManagement()) {
+                    collectVersionProperty(dependency.getGroupId(), dependency.getArtifactId(), dependency.getVersion(), ctx);
+                }
+                Xml.Document d = super.visitDocument(document, ctx);
+                if (d != document) {
+                    maybeUpdateModel();
+                }
+                return d;
+            }
+
+            @Override
+            public Xml.@Nullable Tag visitTag(Xml.Tag tag, ExecutionContext ctx) {
+                Xml.Tag t = super.visitTag(tag, ctx);
+                if (DEPENDENCY.matches(getCursor())) {
+                    return migrate(t, ctx);
+                }
+                if (t != tag && ("dependencies".equals(t.getName()) || "dependencyManagement".equals(t.getName())) &&
+                    (t.getContent() == null || t.getContent().isEmpty())) {
+                    // The last dependency of the section was removed
+                    return null;
+                }
+                String version = versionProperties.get(t.getName());
+                if (version != null && isProperty(getCursor()) && !version.equals(t.getValue().orElse(null))) {
+                    return t.withValue(version);
+                }
+                return t;
+            }
+
+            private Xml.@Nullable Tag migrate(Xml.Tag dependency, ExecutionContext ctx) {
+                String artifactId = dependency.getChildValue("artifactId").orElse(null);
+                Coordinate coordinate = Coordinate.of(dependency.getChildValue("groupId").orElse(null), artifactId);
+                if (coordinate == null || artifactId == null) {
+                    return dependency;
+                } else if (coordinate.isRemoved()) {
+                    return null;
+                }
+                Xml.Tag d = dependency.withChildValue("groupId", requireNonNull(coordinate.getNewGroupId()));
+                if (coordinate.getNewArtifactId() != null) {
+                    d = d.withChildValue("artifactId", coordinate.getNewArtifactId());
+                }
+                String version = d.getChildValue("version").orElse(null);
+                if (version != null && !version.startsWith("${")) {
+                    String newVersion = resolveVersion(coordinate, artifactId, ctx);
+                    if (newVersion != null) {
+                        d = d.withChildValue("version", newVersion);
+                    }
+                }
+                return d;
+            }
+
+            private void collectVersionProperty(@Nullable String groupId, @Nullable String artifactId,
+                                                @Nullable String version, ExecutionContext ctx) {
+                Coordinate coordinate = Coordinate.of(groupId, artifactId);
+                if (coordinate == null || coordinate.isRemoved() || artifactId == null ||
+                    version == null || !version.startsWith("${") || !version.endsWith("}")) {
+                    return;
+                }
+                String property = version.substring(2, version.length() - 1);
+                if (!versionProperties.containsKey(property)) {
+                    String newVersion = resolveVersion(coordinate, artifactId, ctx);
+                    if (newVersion != null) {
+                        versionProperties.put(property, newVersion);
+                    }
+                }
+            }
+
+            /**
+             * @return the latest version matching the pattern of the coordinate, looked up once per group ID and
+             * pattern for all build files sharing the execution context.
+             */
+            private @Nullable String resolveVersion(Coordinate coordinate, String artifactId, ExecutionContext ctx) {
+                String groupId = requireNonNull(coordinate.getNewGroupId());
+                String versionPattern = requireNonNull(coordinate.getVersionPattern());
+                String newArtifactId = coordinate.getNewArtifactId() == null ? artifactId : coordinate.getNewArtifactId();
+                Map<String, Optional<String>> versions = ctx.computeMessageIfAbsent(RESOLVED_VERSIONS, k -> new ConcurrentHashMap<>());
+                return versions.computeIfAbsent(groupId + ":" + versionPattern, k -> {
+                    VersionComparator comparator = requireNonNull(Semver.validate(versionPattern, null).getValue());
+                    ResolvedPom pom = getResolutionResult().getPom();
+                    try {
+                        MavenMetadata metadata = new MavenPomDownloader(ctx)
+                                .downloadMetadata(new GroupArtifact(groupId, newArtifactId), pom, pom.getRepositories());
+                        return metadata.getVersioning().getVersions().stream()
+                                .filter(v -> comparator.isValid(null, v))
+                                .max((v1, v2) -> comparator.compare(null, v1, v2));
+                    } catch (MavenDownloadingException e) {
+                        return Optional.empty();
+                    }
+                }).orElse(null);
+            }
+        };
+    }
+
+    private static boolean isProperty(Cursor cursor) {
+        Object parent = cursor.getParentTreeCursor().getValue();
+        return parent instanceof Xml.Tag && "properties".equals(((Xml.Tag) parent).getName());
+    }
+
+    @Value
+    static class Coordinate {
+        /**
+         * The artifact ID in the {@code org.hibernate} group, or a glob such as {@code hibernate-*}.
+         */
+        String oldArtifactId;
+
+        /**
+         * The group ID in Hibernate 6.0, or {@code null} when the artifact is removed.
+         */
+        @Nullable
+        String newGroupId;
+
+        /**
+         * The artifact ID in Hibernate 6.0, or {@code null} when it is unchanged.
+         */
+        @Nullable
+        String newArtifactId;
+
+        @Nullable
+        String versionPattern;
+
+        boolean isRemoved() {
+            return newGroupId == null;
+        }
+
+        static @Nullable Coordinate of(@Nullable String groupId, @Nullable String artifactId) {
+            if (!LEGACY_GROUP_ID.equals(groupId) || artifactId == null) {
+                return null;
+            }
+            for (Coordinate coordinate : COORDINATES) {
+                if (StringUtils.matchesGlob(artifactId, coordinate.getOldArtifactId())) {
+                    return coordinate;
+                }
+            }
+            return null;
+        }
+    }
+}
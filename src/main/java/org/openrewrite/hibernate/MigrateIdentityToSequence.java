@@ -0,0 +1,208 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.hibernate;
+
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.hibernate.table.IdentityToSequenceDdl;
+import org.openrewrite.java.search.UsesType;
+import org.openrewrite.java.tree.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+
+import static java.util.stream.Collectors.joining;
+
+@Value
+@EqualsAndHashCode(callSuper = false)
+public class MigrateIdentityToSequence extends ScanningRecipe<HibernateSettings> {
+
+    private static final int DEFAULT_ALLOCATION_SIZE = 50;
+    private static final Pattern POSTGRESQL_DIALECTS = Pattern.compile("(PostgreSQL|PostgresPlus|CockroachDB)\\w*");
+    private static final Pattern ORACLE_DIALECTS = Pattern.compile("Oracle\\w*");
+    private static final Pattern DERBY_DIALECTS = Pattern.compile("Derby\\w*");
+
+    transient IdentityToSequenceDdl ddl = new IdentityToSequenceDdl(this);
+
+    @Option(displayName = "Allocation size",
+            description = "The number of identifiers Hibernate reserves with every call to the sequence. Defaults to " + DEFAULT_ALLOCATION_SIZE + ".",
+            example = "50",
+            required = false)
+    @Nullable
+    Integer allocationSize;
+
+    String displayName = "Replace `GenerationType.IDENTITY` with pooled sequences";
+
+    String description = "Hibernate disables JDBC insert batching for entities whose identifier is generated by an identity column. " +
+      "This replaces `@GeneratedValue(strategy = GenerationType.IDENTITY)` with a `SEQUENCE` strategy and an explicit `@SequenceGenerator` per entity, " +
+      "but only when every Hibernate dialect configured in the repository supports sequences. " +
+      "The DDL creating each sequence and seeding it past the identifiers already in use is listed in a data table.";
+
+    Duration estimatedEffortPerOccurrence = Duration.ofMinutes(30);
+
+    @Override
+    public HibernateSettings getInitialValue(ExecutionContext ctx) {
+        return new HibernateSettings();
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getScanner(HibernateSettings settings) {
+        return settings.scanner();
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor(HibernateSettings settings) {
+        if (!settings.supportsSequences()) {
+            return TreeVisitor.noop();
+        }
+        int allocation = allocationSize == null ? DEFAULT_ALLOCATION_SIZE : allocationSize;
+        return Preconditions.check(Preconditions.or(
+                new UsesType<>("jakarta.persistence.GeneratedValue", false),
+                new UsesType<>("javax.persistence.GeneratedValue", false)
+        ), new GeneratedIdentifiers.Visitor() {
+            /**
+             * @return the annotations of the identifier attribute, generated by a sequence instead of an identity
+             * column, or the same list when the identifier is not generated by an identity column.
+             */
+            @Override
+            List<J.Annotation> visitGeneratedValue(J.Annotation generatedValue, List<J.Annotation> annotations,
+                                                   Space prefix, String attribute, @Nullable JavaType type,
+                                                   ExecutionContext ctx) {
+                if (!"IDENTITY".equals(GeneratedIdentifiers.strategy(generatedValue))) {
+                    return annotations;
+                }
+                String persistencePackage = GeneratedIdentifiers.persistencePackage(generatedValue);
+                J.ClassDeclaration entity = getCursor().firstEnclosing(J.ClassDeclaration.class);
+                // On a @MappedSuperclass the generator would be shared by every entity extending it
+                if (entity == null || entity.getType() == null || !isEntity(entity, persistencePackage)) {
+                    return annotations;
+                }
+
+                String table = table(entity);
+                String sequence = table + "_seq";
+                ImportLedger.of(getCursor(), this::doAfterVisit)
+                        .add(persistencePackage + ".GenerationType", false)
+                        .add(persistencePackage + ".SequenceGenerator", false);
+                List<J.Annotation> updated = GeneratedIdentifiers.useSequence(annotations, generatedValue, sequence,
+                        allocation, prefix);
+
+                String id = column(annotations, attribute);
+                ddl.insertRow(ctx, new IdentityToSequenceDdl.Row(
+                        getCursor().firstEnclosingOrThrow(SourceFile.class).getSourcePath().toString(),
+                        entity.getType().getFullyQualifiedName(),
+                        table,
+                        sequence,
+                        "create sequence " + sequence + " start with 1 increment by " + allocation,
+                        seed(settings, sequence, table, id, allocation)
+                ));
+                return updated;
+            }
+        });
+    }
+
+    private static boolean isEntity(J.ClassDeclaration classDecl, String persistencePackage) {
+        for (J.Annotation annotation : classDecl.getLeadingAnnotations()) {
+            if (TypeUtils.isOfClassType(annotation.getType(), persistencePackage + ".Entity")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return the {@code name} of the annotation of the given simple name, when it is a string literal.
+     */
+    private static @Nullable String name(List<J.Annotation> annotations, String annotationName) {
+        for (J.Annotation annotation : annotations) {
+            JavaType.FullyQualified type = TypeUtils.asFullyQualified(annotation.getType());
+            if (type != null && annotationName.equals(type.getClassName())) {
+                Expression name = GeneratedIdentifiers.argument(annotation, "name");
+                if (name instanceof J.Literal && ((J.Literal) name).getValue() instanceof String) {
+                    return (String) ((J.Literal) name).getValue();
+                }
+            }
+        }
+        return null;
+    }
+
+    private static String table(J.ClassDeclaration entity) {
+        String table = name(entity.getLeadingAnnotations(), "Table");
+        if (table != null) {
+            return table;
+        }
+        String entityName = name(entity.getLeadingAnnotations(), "Entity");
+        return snakeCase(entityName == null ? entity.getSimpleName() : entityName);
+    }
+
+    private static String column(List<J.Annotation> annotations, String attribute) {
+        String column = name(annotations, "Column");
+        return column == null ? snakeCase(attribute) : column;
+    }
+
+    /**
+     * @return the name the default Spring Boot physical naming strategy gives to a table or column.
+     */
+    private static String snakeCase(String name) {
+        StringBuilder snakeCase = new StringBuilder(name.length() + 4);
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (i > 0 && Character.isUpperCase(c) && Character.isLowerCase(name.charAt(i - 1))) {
+                snakeCase.append('_');
+            }
+            snakeCase.append(Character.toLowerCase(c));
+        }
+        return snakeCase.toString();
+    }
+
+    /**
+     * Moves the sequence far enough past the largest identifier in use that the pooled optimizer never hands out
+     * one of them, however it interprets the first value it reads. Databases that can't restart a sequence from a
+     * query get the query computing the value first, followed by the statement to run with its result. When several
+     * databases are configured, there is a statement for each, labelled with a comment.
+     */
+    private static String seed(HibernateSettings settings, String sequence, String table, String id, int allocation) {
+        String maxId = "coalesce(max(" + id + "), 0)";
+        String startWith = "select " + maxId + " + " + (allocation + 1) + " from " + table + ";";
+        Map<String, String> statements = new TreeMap<>();
+        for (String dialect : settings.getDialects()) {
+            if (POSTGRESQL_DIALECTS.matcher(dialect).matches()) {
+                statements.put("PostgreSQL", "select setval('" + sequence + "', (select " + maxId + " + " + allocation + " from " + table + "));");
+            } else if (ORACLE_DIALECTS.matcher(dialect).matches()) {
+                statements.put("Oracle", "declare start_with number; begin " +
+                                         "select " + maxId + " + " + (allocation + 1) + " into start_with from " + table + "; " +
+                                         "execute immediate 'alter sequence " + sequence + " restart start with ' || start_with; end;");
+            } else if (DERBY_DIALECTS.matcher(dialect).matches()) {
+                // Derby can't restart a sequence, it has to be created again
+                statements.put("Derby", startWith + " drop sequence " + sequence + " restrict; " +
+                                        "create sequence " + sequence + " start with <result> increment by " + allocation + ";");
+            } else {
+                statements.put(dialect.replaceAll("Dialect$", ""),
+                        startWith + " alter sequence " + sequence + " restart with <result>;");
+            }
+        }
+        if (statements.size() == 1) {
+            return statements.values().iterator().next();
+        }
+        return statements.entrySet().stream()
+                .map(statement -> "-- " + statement.getKey() + "\n" + statement.getValue())
+                .collect(joining("\n"));
+    }
+}
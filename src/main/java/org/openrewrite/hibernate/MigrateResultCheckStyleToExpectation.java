@@ -108,9 +108,10 @@ public class MigrateResultCheckStyleToExpectation extends Recipe {
                         .build()
                         .apply(getCursor(), assignment.getCoordinates().replace(), map);
 
-                maybeRemoveImport("org.hibernate.annotations.ResultCheckStyle");
-                maybeAddImport("org.hibernate.jdbc.Expectation");
-                doAfterVisit(new ShortenFullyQualifiedTypeReferences().getVisitor());
+                ImportLedger.of(getCursor(), this::doAfterVisit)
+                        .remove("org.hibernate.annotations.ResultCheckStyle")
+                        .add("org.hibernate.jdbc.Expectation")
+                        .shorten();
                 return updatedAnnotation;
             }
 
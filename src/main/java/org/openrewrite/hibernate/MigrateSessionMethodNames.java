@@ -0,0 +1,56 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.hibernate;
+
+import lombok.Getter;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Preconditions;
+import org.openrewrite.Recipe;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.java.search.UsesMethod;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class MigrateSessionMethodNames extends Recipe {
+
+    private static final Map<String, String> RENAMES = new LinkedHashMap<>();
+
+    static {
+        // Removed in Hibernate 7.0
+        RENAMES.put("org.hibernate.Session save(Object)", "persist");
+        RENAMES.put("org.hibernate.Session save(String, Object)", "persist");
+        RENAMES.put("org.hibernate.Session delete(Object)", "remove");
+        RENAMES.put("org.hibernate.Session delete(String, Object)", "remove");
+        RENAMES.put("org.hibernate.Session get(Class, java.io.Serializable)", "find");
+        RENAMES.put("org.hibernate.Session get(String, java.io.Serializable)", "find");
+        // Deprecated in favor of the JPA names
+        RENAMES.put("org.hibernate.Session load(Class, java.io.Serializable)", "getReference");
+        RENAMES.put("org.hibernate.Session load(String, java.io.Serializable)", "getReference");
+    }
+
+    @Getter
+    final String displayName = "Migrate `Session` methods removed in Hibernate 7.0";
+
+    @Getter
+    final String description = "Renames `Session.save()` to `persist()`, `Session.delete()` to `remove()`, " +
+      "`Session.get()` to `find()` and `Session.load()` to `getReference()` in a single pass.";
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return Preconditions.check(new UsesMethod<>("org.hibernate.Session *(..)"), new MethodRenameVisitor(RENAMES));
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.hibernate;
+
+import lombok.Getter;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Preconditions;
+import org.openrewrite.ScanningRecipe;
+import org.openrewrite.TreeVisitor;
+
+import java.time.Duration;
+
+public class MigrateTypeAnnotations extends ScanningRecipe<TypeDefIndex> {
+
+    @Getter
+    final String displayName = "Migrate `@Type` and `@TypeDef` mappings in a single pass";
+
+    @Getter
+    final String description = "Replaces boolean type mappings with converters and migrates the `@Type` annotation type parameter, " +
+      "walking each compilation unit once instead of once per recipe. " +
+      "Produces the same result as `MigrateBooleanMappings` followed by `TypeAnnotationParameter`.";
+
+    @Getter
+    final Duration estimatedEffortPerOccurrence = Duration.ofMinutes(1);
+
+    @Override
+    public TypeDefIndex getInitialValue(ExecutionContext ctx) {
+        return new TypeDefIndex();
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getScanner(TypeDefIndex typeDefs) {
+        return typeDefs.scanner();
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor(TypeDefIndex typeDefs) {
+        AnnotationHandler booleanMappings = new MigrateBooleanMappings.Handler();
+        AnnotationHandler typeParameter = new TypeAnnotationParameter.Handler(typeDefs);
+        return Preconditions.check(
+                Preconditions.or(booleanMappings.getPrecondition(), typeParameter.getPrecondition()),
+                new AnnotationDispatcher(booleanMappings, typeParameter));
+    }
+}
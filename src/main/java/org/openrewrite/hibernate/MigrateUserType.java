@@ -23,13 +23,14 @@ import org.openrewrite.Recipe;
 import org.openrewrite.TreeVisitor;
 import org.openrewrite.internal.ListUtils;
 import org.openrewrite.java.*;
-import org.openrewrite.java.search.FindImplementations;
-import org.openrewrite.java.search.FindMethodDeclaration;
 import org.openrewrite.java.tree.*;
 import org.openrewrite.marker.Markers;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -39,18 +40,62 @@ import static org.openrewrite.Tree.randomId;
 public class MigrateUserType extends Recipe {
 
     private static final String USER_TYPE = "org.hibernate.usertype.UserType";
-    private static final MethodMatcher ASSEMBLE = new MethodMatcher("* assemble(java.io.Serializable, java.lang.Object)");
-    private static final MethodMatcher DEEP_COPY = new MethodMatcher("* deepCopy(java.lang.Object)");
-    private static final MethodMatcher DISASSEMBLE = new MethodMatcher("* disassemble(java.lang.Object)");
-    private static final MethodMatcher EQUALS = new MethodMatcher("* equals(java.lang.Object, java.lang.Object)");
-    private static final MethodMatcher HASHCODE = new MethodMatcher("* hashCode(java.lang.Object)");
-    private static final MethodMatcher NULL_SAFE_GET_STRING_ARRAY = new MethodMatcher("* nullSafeGet(java.sql.ResultSet, java.lang.String[], org.hibernate.engine.spi.SharedSessionContractImplementor, java.lang.Object)");
-    private static final MethodMatcher NULL_SAFE_SET = new MethodMatcher("* nullSafeSet(java.sql.PreparedStatement, java.lang.Object, int, org.hibernate.engine.spi.SharedSessionContractImplementor)");
     private static final MethodMatcher NULL_SAFE_GET_INT = new MethodMatcher("* nullSafeGet(java.sql.ResultSet, int, org.hibernate.engine.spi.SharedSessionContractImplementor, java.lang.Object)");
-    private static final MethodMatcher REPLACE = new MethodMatcher("* replace(java.lang.Object, java.lang.Object, java.lang.Object)");
     private static final MethodMatcher RESULT_SET_STRING_PARAM = new MethodMatcher("java.sql.ResultSet *(java.lang.String)");
-    private static final MethodMatcher RETURNED_CLASS = new MethodMatcher("* returnedClass()");
-    private static final MethodMatcher SQL_TYPES = new MethodMatcher("* sqlTypes()");
+    private static final Map<String, List<UserTypeMethod>> USER_TYPE_METHODS = new HashMap<>();
+
+    static {
+        for (UserTypeMethod method : UserTypeMethod.values()) {
+            USER_TYPE_METHODS.computeIfAbsent(method.signature, k -> new ArrayList<>(1)).add(method);
+        }
+    }
+
+    /**
+     * The Hibernate 5 {@code UserType} methods this recipe migrates, indexed by name and arity so that every method
+     * declaration is looked up once instead of being matched against each pattern in turn.
+     */
+    private enum UserTypeMethod {
+        ASSEMBLE("assemble", 2, "* assemble(java.io.Serializable, java.lang.Object)"),
+        DEEP_COPY("deepCopy", 1, "* deepCopy(java.lang.Object)"),
+        DISASSEMBLE("disassemble", 1, "* disassemble(java.lang.Object)"),
+        EQUALS("equals", 2, "* equals(java.lang.Object, java.lang.Object)"),
+        HASHCODE("hashCode", 1, "* hashCode(java.lang.Object)"),
+        NULL_SAFE_GET_STRING_ARRAY("nullSafeGet", 4, "* nullSafeGet(java.sql.ResultSet, java.lang.String[], org.hibernate.engine.spi.SharedSessionContractImplementor, java.lang.Object)"),
+        NULL_SAFE_SET("nullSafeSet", 4, "* nullSafeSet(java.sql.PreparedStatement, java.lang.Object, int, org.hibernate.engine.spi.SharedSessionContractImplementor)"),
+        REPLACE("replace", 3, "* replace(java.lang.Object, java.lang.Object, java.lang.Object)"),
+        RETURNED_CLASS("returnedClass", 0, "* returnedClass()"),
+        SQL_TYPES("sqlTypes", 0, "* sqlTypes()");
+
+        final String signature;
+        final MethodMatcher matcher;
+
+        UserTypeMethod(String name, int arity, String methodPattern) {
+            this.signature = signature(name, arity);
+            this.matcher = new MethodMatcher(methodPattern);
+        }
+
+        static @Nullable UserTypeMethod find(J.MethodDeclaration md, J.ClassDeclaration cd) {
+            int arity = 0;
+            for (Statement parameter : md.getParameters()) {
+                if (!(parameter instanceof J.Empty)) {
+                    arity++;
+                }
+            }
+            List<UserTypeMethod> candidates = USER_TYPE_METHODS.get(signature(md.getSimpleName(), arity));
+            if (candidates != null) {
+                for (UserTypeMethod candidate : candidates) {
+                    if (candidate.matcher.matches(md, cd)) {
+                        return candidate;
+                    }
+                }
+            }
+            return null;
+        }
+
+        private static String signature(String name, int arity) {
+            return name + '/' + arity;
+        }
+    }
 
     @Getter
     final String displayName = "Migrate `UserType` to Hibernate 6";
@@ -62,17 +107,20 @@ public class MigrateUserType extends Recipe {
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
         return Preconditions.check(Preconditions.and(
-                new FindImplementations(USER_TYPE).getVisitor(),
+                TypeTablePreconditions.findImplementations(USER_TYPE),
                 // This method only exists on the Hibernate 6 variant of UserType, so as a precondition this shouldn't exist
-                Preconditions.not(new FindMethodDeclaration("* getSqlType()", true).getVisitor())
+                Preconditions.not(TypeTablePreconditions.declaresMethod("* getSqlType()", true))
         ), new JavaVisitor<ExecutionContext>() {
             @Override
             public J visitClassDeclaration(J.ClassDeclaration classDecl, ExecutionContext ctx) {
                 J.ClassDeclaration cd = classDecl;
+                if (!TypeUtils.isAssignableTo(USER_TYPE, cd.getType())) {
+                    return super.visitClassDeclaration(cd, ctx);
+                }
                 J.FieldAccess parameterizedType = getReturnedClass(cd);
                 cd = cd.withImplements(ListUtils.map(cd.getImplements(), impl -> {
                     if (TypeUtils.isAssignableTo(USER_TYPE, impl.getType()) && parameterizedType != null) {
-                        return TypeTree.build("UserType<" + parameterizedType.getTarget() + ">").withType(JavaType.buildType(USER_TYPE)).withPrefix(Space.SINGLE_SPACE);
+                        return TypeTree.build("UserType<" + parameterizedType.getTarget() + ">").withType(LegacyTypeRegistry.classType(USER_TYPE)).withPrefix(Space.SINGLE_SPACE);
                     }
                     return impl;
                 }));
@@ -84,25 +132,26 @@ public class MigrateUserType extends Recipe {
 
             @SuppressWarnings("ConstantConditions")
             private J.@Nullable FieldAccess getReturnedClass(J.ClassDeclaration cd) {
-                AtomicReference<J.FieldAccess> reference = new AtomicReference<>();
-                new JavaIsoVisitor<AtomicReference<J.FieldAccess>>() {
-                    @Override
-                    public J.MethodDeclaration visitMethodDeclaration(J.MethodDeclaration method, AtomicReference<J.FieldAccess> ref) {
-                        // Only visit top level method returnedClass
-                        return RETURNED_CLASS.matches(method, cd) ? super.visitMethodDeclaration(method, ref) : method;
-                    }
-
-                    @Override
-                    public J.Return visitReturn(J.Return _return, AtomicReference<J.FieldAccess> ref) {
-                        Expression expression = _return.getExpression();
-                        if (expression instanceof J.FieldAccess &&
-                                "class".equals(((J.FieldAccess) expression).getSimpleName())) {
-                            ref.set((J.FieldAccess) expression);
-                        }
-                        return _return;
+                // Only the top level returnedClass method is inspected, not the whole class
+                for (Statement statement : cd.getBody().getStatements()) {
+                    if (statement instanceof J.MethodDeclaration &&
+                            UserTypeMethod.find((J.MethodDeclaration) statement, cd) == UserTypeMethod.RETURNED_CLASS) {
+                        AtomicReference<J.FieldAccess> reference = new AtomicReference<>();
+                        new JavaIsoVisitor<AtomicReference<J.FieldAccess>>() {
+                            @Override
+                            public J.Return visitReturn(J.Return _return, AtomicReference<J.FieldAccess> ref) {
+                                Expression expression = _return.getExpression();
+                                if (expression instanceof J.FieldAccess &&
+                                        "class".equals(((J.FieldAccess) expression).getSimpleName())) {
+                                    ref.set((J.FieldAccess) expression);
+                                }
+                                return _return;
+                            }
+                        }.visit(statement, reference);
+                        return reference.get();
                     }
-                }.visitNonNull(cd, reference);
-                return reference.get();
+                }
+                return null;
             }
 
             @Override
@@ -113,96 +162,110 @@ public class MigrateUserType extends Recipe {
                 if (cd == null || parameterizedType == null) {
                     return md;
                 }
-                if (SQL_TYPES.matches(md, cd)) {
-                    if (md.getBody() != null) {
-                        Optional<J.Return> ret = md.getBody().getStatements().stream().filter(J.Return.class::isInstance).map(J.Return.class::cast).findFirst();
-                        if (ret.isPresent()) {
-                            if (ret.get().getExpression() instanceof J.NewArray) {
-                                J.NewArray newArray = (J.NewArray) ret.get().getExpression();
-                                if (newArray.getInitializer() != null) {
-                                    String template = "@Override\n" +
-                                                      "public int getSqlType() {\n" +
-                                                      "    return #{any()};\n" +
-                                                      "}";
-                                    md = JavaTemplate.builder(template)
-                                            .javaParser(JavaParser.fromJavaVersion())
-                                            .build()
-                                            .apply(getCursor(), md.getCoordinates().replace(), newArray.getInitializer().get(0)).withId(md.getId());
+                UserTypeMethod userTypeMethod = UserTypeMethod.find(md, cd);
+                if (userTypeMethod != null) {
+                    md = migrateUserTypeMethod(userTypeMethod, md, parameterizedType, ctx);
+                }
+                updateCursor(md);
+                md = (J.MethodDeclaration) super.visitMethodDeclaration(md, ctx);
+                return maybeAutoFormat(method, md, ctx);
+            }
+
+            private J.MethodDeclaration migrateUserTypeMethod(UserTypeMethod userTypeMethod, J.MethodDeclaration md, J.FieldAccess parameterizedType, ExecutionContext ctx) {
+                switch (userTypeMethod) {
+                    case SQL_TYPES:
+                        if (md.getBody() != null) {
+                            Optional<J.Return> ret = md.getBody().getStatements().stream().filter(J.Return.class::isInstance).map(J.Return.class::cast).findFirst();
+                            if (ret.isPresent()) {
+                                if (ret.get().getExpression() instanceof J.NewArray) {
+                                    J.NewArray newArray = (J.NewArray) ret.get().getExpression();
+                                    if (newArray.getInitializer() != null) {
+                                        String template = "@Override\n" +
+                                                          "public int getSqlType() {\n" +
+                                                          "    return #{any()};\n" +
+                                                          "}";
+                                        md = JavaTemplateCache.builder(template)
+                                                .build(ctx)
+                                                .apply(getCursor(), md.getCoordinates().replace(), newArray.getInitializer().get(0)).withId(md.getId());
+                                    }
                                 }
-                            }
 
+                            }
                         }
-                    }
-                } else if (RETURNED_CLASS.matches(md, cd)) {
-                    md = md.withReturnTypeExpression(TypeTree.build("Class<" + parameterizedType.getTarget() + ">"));
-                    if (md.getReturnTypeExpression() != null) {
-                        md = md.withPrefix(md.getReturnTypeExpression().getPrefix());
-                    }
-                } else if (EQUALS.matches(md, cd)) {
-                    md = changeParameterTypes(md, Arrays.asList(0, 1), parameterizedType);
-                } else if (HASHCODE.matches(md, cd)) {
-                    md = changeParameterTypes(md, singletonList(0), parameterizedType);
-                } else if (NULL_SAFE_GET_STRING_ARRAY.matches(md, cd)) {
-                    String template = "@Override\n" +
-                                      "public BigDecimal nullSafeGet(ResultSet rs, int position, SharedSessionContractImplementor session, Object owner) throws SQLException {\n" +
-                                      "}";
-                    J.MethodDeclaration updatedParam = JavaTemplate.builder(template)
-                            .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "hibernate-core"))
-                            .imports("java.math.BigDecimal", "java.sql.ResultSet", "java.sql.SQLException", "org.hibernate.engine.spi.SharedSessionContractImplementor")
-                            .build()
-                            .apply(getCursor(), md.getCoordinates().replace());
-                    md = updatedParam.withId(md.getId()).withBody(md.getBody());
-                } else if (NULL_SAFE_SET.matches(md, cd)) {
-                    md = changeParameterTypes(md, singletonList(1), parameterizedType);
-                } else if (DEEP_COPY.matches(md, cd)) {
-                    md = md.withReturnTypeExpression(parameterizedType.getTarget().withPrefix(Space.SINGLE_SPACE));
-                    if (md.getReturnTypeExpression() != null) {
-                        md = md.withPrefix(md.getReturnTypeExpression().getPrefix());
-                    }
-                    md = changeParameterTypes(md, singletonList(0), parameterizedType);
-                } else if (DISASSEMBLE.matches(md, cd)) {
-                    md = changeParameterTypes(md, singletonList(0), parameterizedType);
-                    if (md.getBody() != null) {
-                        md = md.withBody(md.getBody().withStatements(ListUtils.map(md.getBody().getStatements(), stmt -> {
-                            if (stmt instanceof J.Return) {
-                                J.Return r = (J.Return) stmt;
-                                if (r.getExpression() instanceof J.TypeCast) {
-                                    J.TypeCast tc = (J.TypeCast) r.getExpression();
-                                    if (TypeUtils.isOfType(parameterizedType.getTarget().getType(), tc.getClazz().getType())) {
-                                        return r.withExpression(tc.getExpression());
+                        return md;
+                    case RETURNED_CLASS:
+                        md = md.withReturnTypeExpression(TypeTree.build("Class<" + parameterizedType.getTarget() + ">"));
+                        if (md.getReturnTypeExpression() != null) {
+                            md = md.withPrefix(md.getReturnTypeExpression().getPrefix());
+                        }
+                        return md;
+                    case EQUALS:
+                        return changeParameterTypes(md, Arrays.asList(0, 1), parameterizedType);
+                    case HASHCODE:
+                        return changeParameterTypes(md, singletonList(0), parameterizedType);
+                    case NULL_SAFE_GET_STRING_ARRAY:
+                        String template = "@Override\n" +
+                                          "public BigDecimal nullSafeGet(ResultSet rs, int position, SharedSessionContractImplementor session, Object owner) throws SQLException {\n" +
+                                          "}";
+                        J.MethodDeclaration updatedParam = JavaTemplateCache.builder(template)
+                                .classpathFromResources("hibernate-core")
+                                .imports("java.math.BigDecimal", "java.sql.ResultSet", "java.sql.SQLException", "org.hibernate.engine.spi.SharedSessionContractImplementor")
+                                .build(ctx)
+                                .apply(getCursor(), md.getCoordinates().replace());
+                        md = updatedParam.withId(md.getId()).withBody(md.getBody());
+                        return md;
+                    case NULL_SAFE_SET:
+                        return changeParameterTypes(md, singletonList(1), parameterizedType);
+                    case DEEP_COPY:
+                        md = md.withReturnTypeExpression(parameterizedType.getTarget().withPrefix(Space.SINGLE_SPACE));
+                        if (md.getReturnTypeExpression() != null) {
+                            md = md.withPrefix(md.getReturnTypeExpression().getPrefix());
+                        }
+                        return changeParameterTypes(md, singletonList(0), parameterizedType);
+                    case DISASSEMBLE:
+                        md = changeParameterTypes(md, singletonList(0), parameterizedType);
+                        if (md.getBody() != null) {
+                            md = md.withBody(md.getBody().withStatements(ListUtils.map(md.getBody().getStatements(), stmt -> {
+                                if (stmt instanceof J.Return) {
+                                    J.Return r = (J.Return) stmt;
+                                    if (r.getExpression() instanceof J.TypeCast) {
+                                        J.TypeCast tc = (J.TypeCast) r.getExpression();
+                                        if (TypeUtils.isOfType(parameterizedType.getTarget().getType(), tc.getClazz().getType())) {
+                                            return r.withExpression(tc.getExpression());
+                                        }
                                     }
                                 }
-                            }
-                            return stmt;
-                        })));
-                    }
-                } else if (ASSEMBLE.matches(md, cd)) {
-                    md = md.withReturnTypeExpression(parameterizedType.getTarget().withPrefix(Space.SINGLE_SPACE));
-                    if (md.getReturnTypeExpression() != null) {
-                        md = md.withPrefix(md.getReturnTypeExpression().getPrefix());
-                    }
-                    if (md.getBody() != null) {
-                        md = md.withBody(md.getBody().withStatements(ListUtils.map(md.getBody().getStatements(), stmt -> {
-                            if (stmt instanceof J.Return) {
-                                J.Return r = (J.Return) stmt;
-                                if (r.getExpression() != null && !TypeUtils.isOfType(parameterizedType.getTarget().getType(), r.getExpression().getType())) {
-                                    return r.withExpression(new J.TypeCast(randomId(), Space.EMPTY, Markers.EMPTY, new J.ControlParentheses<>(randomId(), Space.EMPTY, Markers.EMPTY,
-                                            new JRightPadded<>(TypeTree.build("BigDecimal").withType(parameterizedType.getTarget().getType()), Space.EMPTY, Markers.EMPTY)), r.getExpression()));
+                                return stmt;
+                            })));
+                        }
+                        return md;
+                    case ASSEMBLE:
+                        md = md.withReturnTypeExpression(parameterizedType.getTarget().withPrefix(Space.SINGLE_SPACE));
+                        if (md.getReturnTypeExpression() != null) {
+                            md = md.withPrefix(md.getReturnTypeExpression().getPrefix());
+                        }
+                        if (md.getBody() != null) {
+                            md = md.withBody(md.getBody().withStatements(ListUtils.map(md.getBody().getStatements(), stmt -> {
+                                if (stmt instanceof J.Return) {
+                                    J.Return r = (J.Return) stmt;
+                                    if (r.getExpression() != null && !TypeUtils.isOfType(parameterizedType.getTarget().getType(), r.getExpression().getType())) {
+                                        return r.withExpression(new J.TypeCast(randomId(), Space.EMPTY, Markers.EMPTY, new J.ControlParentheses<>(randomId(), Space.EMPTY, Markers.EMPTY,
+                                                new JRightPadded<>(TypeTree.build("BigDecimal").withType(parameterizedType.getTarget().getType()), Space.EMPTY, Markers.EMPTY)), r.getExpression()));
+                                    }
                                 }
-                            }
-                            return stmt;
-                        })));
-                    }
-                } else if (REPLACE.matches(md, cd)) {
-                    md = md.withReturnTypeExpression(parameterizedType.getTarget().withPrefix(Space.SINGLE_SPACE));
-                    if (md.getReturnTypeExpression() != null) {
-                        md = md.withPrefix(md.getReturnTypeExpression().getPrefix());
-                    }
-                    md = changeParameterTypes(md, Arrays.asList(0, 1), parameterizedType);
+                                return stmt;
+                            })));
+                        }
+                        return md;
+                    case REPLACE:
+                        md = md.withReturnTypeExpression(parameterizedType.getTarget().withPrefix(Space.SINGLE_SPACE));
+                        if (md.getReturnTypeExpression() != null) {
+                            md = md.withPrefix(md.getReturnTypeExpression().getPrefix());
+                        }
+                        return changeParameterTypes(md, Arrays.asList(0, 1), parameterizedType);
+                    default:
+                        return md;
                 }
-                updateCursor(md);
-                md = (J.MethodDeclaration) super.visitMethodDeclaration(md, ctx);
-                return maybeAutoFormat(method, md, ctx);
             }
 
             private J.MethodDeclaration changeParameterTypes(J.MethodDeclaration md, List<Integer> paramIndexes, J.FieldAccess parameterizedType) {
@@ -210,7 +273,7 @@ public class MigrateUserType extends Recipe {
                     JavaType.Method met = md.getMethodType().withParameterTypes(ListUtils.map(md.getMethodType().getParameterTypes(),
                             (index, type) -> {
                                 if (paramIndexes.contains(index)) {
-                                    type = TypeUtils.isOfType(JavaType.buildType("java.lang.Object"), type) ? parameterizedType.getTarget().getType() : type;
+                                    type = TypeUtils.isOfType(LegacyTypeRegistry.classType("java.lang.Object"), type) ? parameterizedType.getTarget().getType() : type;
                                 }
                                 return type;
                             }));
@@ -241,7 +304,7 @@ public class MigrateUserType extends Recipe {
                     if (md != null && cd != null && NULL_SAFE_GET_INT.matches(md, cd)) {
                         mi = mi.withArguments(singletonList(((J.VariableDeclarations) md.getParameters().get(1)).getVariables().get(0).getName()));
                         if (mi.getMethodType() != null) {
-                            mi = mi.withMethodType(mi.getMethodType().withParameterTypes(singletonList(JavaType.buildType("int"))));
+                            mi = mi.withMethodType(mi.getMethodType().withParameterTypes(singletonList(JavaType.Primitive.Int)));
                         }
                     }
                 }
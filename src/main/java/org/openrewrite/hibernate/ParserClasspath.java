@@ -0,0 +1,63 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.hibernate;
+
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.java.JavaParser;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.util.Collections.unmodifiableList;
+
+/**
+ * Resolves the parser classpath of the artifacts packaged in {@code META-INF/rewrite/classpath.tsv.gz} one artifact at
+ * a time, and keeps the result on the {@link ExecutionContext}, like {@link JavaTemplateCache} does with templates. A
+ * template that only needs {@code jakarta.persistence-api} therefore never materializes the hibernate-core type stubs,
+ * and no artifact is looked up more than once per run as long as its materialized classpath entries still exist on
+ * disk. Runs with another execution context may materialize the artifacts in another directory, so nothing is shared
+ * between them.
+ */
+final class ParserClasspath {
+
+    private static final String RESOLVED = ParserClasspath.class.getName() + ".RESOLVED";
+
+    private ParserClasspath() {
+    }
+
+    static List<Path> fromResources(ExecutionContext ctx, List<String> artifactNames) {
+        List<Path> classpath = new ArrayList<>();
+        for (String artifactName : artifactNames) {
+            classpath.addAll(fromResource(ctx, artifactName));
+        }
+        return classpath;
+    }
+
+    static List<Path> fromResource(ExecutionContext ctx, String artifactName) {
+        Map<String, List<Path>> resolvedArtifacts = ctx.computeMessageIfAbsent(RESOLVED, k -> new ConcurrentHashMap<>());
+        List<Path> paths = resolvedArtifacts.get(artifactName);
+        if (paths != null && paths.stream().allMatch(Files::exists)) {
+            return paths;
+        }
+        List<Path> resolved = unmodifiableList(new ArrayList<>(JavaParser.dependenciesFromResources(ctx, artifactName)));
+        resolvedArtifacts.put(artifactName, resolved);
+        return resolved;
+    }
+}
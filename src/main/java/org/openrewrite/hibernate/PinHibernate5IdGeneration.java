@@ -0,0 +1,123 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.hibernate;
+
+import lombok.Getter;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.internal.ListUtils;
+import org.openrewrite.java.search.UsesType;
+import org.openrewrite.java.tree.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+public class PinHibernate5IdGeneration extends ScanningRecipe<HibernateSettings> {
+
+    private static final String HIBERNATE_SEQUENCE = "hibernate_sequence";
+
+    /**
+     * The dialects whose {@code native} generator is a sequence in Hibernate 5, where all others use identity columns.
+     */
+    private static final Pattern NATIVE_SEQUENCE_DIALECTS = Pattern.compile("(PostgreSQL|PostgresPlus|CockroachDB|Oracle)\\w*");
+
+    @Getter
+    final String displayName = "Pin the identifier generation of Hibernate 5";
+
+    @Getter
+    final String description = "Hibernate 6 gives every `@GeneratedValue` without a named generator its own `<entity>_SEQ` sequence with an allocation size of 50, " +
+      "where Hibernate 5 either shared a single `hibernate_sequence` incremented by 1 or, with `hibernate.id.new_generator_mappings=false`, " +
+      "used the native generator of the dialect. This spells out the generator Hibernate 5 used for `AUTO` and `SEQUENCE` identifiers, " +
+      "so that upgrading neither requires new sequences nor changes how identifiers are allocated. " +
+      "Identifiers are left alone when the configured settings or dialects don't determine the Hibernate 5 generator.";
+
+    @Override
+    public HibernateSettings getInitialValue(ExecutionContext ctx) {
+        return new HibernateSettings();
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getScanner(HibernateSettings settings) {
+        return settings.scanner();
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor(HibernateSettings settings) {
+        Boolean newGeneratorMappings = newGeneratorMappings(settings);
+        if (newGeneratorMappings == null) {
+            return TreeVisitor.noop();
+        }
+        // With the legacy mappings AUTO means native, and SEQUENCE a hi/lo generator this recipe does not pin
+        boolean sequence = newGeneratorMappings || settings.allDialectsMatch(NATIVE_SEQUENCE_DIALECTS);
+        boolean identity = !newGeneratorMappings && !settings.getDialects().isEmpty() &&
+                           settings.getDialects().stream().noneMatch(d -> NATIVE_SEQUENCE_DIALECTS.matcher(d).matches());
+        if (!sequence && !identity) {
+            return TreeVisitor.noop();
+        }
+        return Preconditions.check(Preconditions.or(
+                new UsesType<>("javax.persistence.GeneratedValue", false),
+                new UsesType<>("jakarta.persistence.GeneratedValue", false)
+        ), new GeneratedIdentifiers.Visitor() {
+            @Override
+            List<J.Annotation> visitGeneratedValue(J.Annotation generatedValue, List<J.Annotation> annotations,
+                                                   Space prefix, String attribute, @Nullable JavaType type,
+                                                   ExecutionContext ctx) {
+                String strategy = GeneratedIdentifiers.strategy(generatedValue);
+                if (!isNumeric(type) || !"AUTO".equals(strategy) && !("SEQUENCE".equals(strategy) && newGeneratorMappings)) {
+                    return annotations;
+                }
+
+                String persistencePackage = GeneratedIdentifiers.persistencePackage(generatedValue);
+                ImportLedger ledger = ImportLedger.of(getCursor(), this::doAfterVisit).add(persistencePackage + ".GenerationType", false);
+                if (identity) {
+                    J.Annotation identityStrategy = GeneratedIdentifiers.withStrategy(generatedValue, "IDENTITY");
+                    return ListUtils.map(annotations, a -> a == generatedValue ? identityStrategy : a);
+                }
+                ledger.add(persistencePackage + ".SequenceGenerator", false);
+                return GeneratedIdentifiers.useSequence(annotations, generatedValue, HIBERNATE_SEQUENCE, 1, prefix);
+            }
+        });
+    }
+
+    /**
+     * @return whether Hibernate 5 used its new generator mappings, which it does unless told otherwise, or
+     * {@code null} when the repository configures both.
+     */
+    private static @Nullable Boolean newGeneratorMappings(HibernateSettings settings) {
+        List<String> values = new ArrayList<>(settings.values("hibernate.id.new_generator_mappings"));
+        values.addAll(settings.values("spring.jpa.hibernate.use-new-id-generator-mappings"));
+        if (values.isEmpty()) {
+            return true;
+        }
+        boolean legacy = values.stream().anyMatch("false"::equalsIgnoreCase);
+        boolean current = values.stream().anyMatch(value -> !"false".equalsIgnoreCase(value));
+        return legacy && current ? null : current;
+    }
+
+    /**
+     * Identifiers of other types, such as {@link java.util.UUID}, were generated the same way by both versions.
+     */
+    private static boolean isNumeric(@Nullable JavaType type) {
+        JavaType.Primitive primitive = TypeUtils.asPrimitive(type);
+        if (primitive != null) {
+            return primitive == JavaType.Primitive.Long || primitive == JavaType.Primitive.Int || primitive == JavaType.Primitive.Short;
+        }
+        return TypeUtils.isOfClassType(type, "java.lang.Long") || TypeUtils.isOfClassType(type, "java.lang.Integer") ||
+               TypeUtils.isOfClassType(type, "java.lang.Short") || TypeUtils.isOfClassType(type, "java.math.BigInteger") ||
+               TypeUtils.isOfClassType(type, "java.math.BigDecimal");
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.hibernate;
+
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Preconditions;
+import org.openrewrite.Recipe;
+import org.openrewrite.SourceFile;
+import org.openrewrite.Tree;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.hibernate.table.HibernateRecipePerformance;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+
+/**
+ * Records what the recipes of this module cost on every source file into {@link HibernateRecipePerformance}, for the
+ * recipes {@link MeasureRecipePerformance} wraps with {@link #measure(Recipe, TreeVisitor)}. Neither the recipes nor
+ * the helpers they use know anything about it: the precondition of a visitor built with
+ * {@link Preconditions#check(TreeVisitor, TreeVisitor)} is evaluated on its own, after visits are counted as the
+ * visitor schedules them, and template compilations are read from the {@link JavaTemplateCache}.
+ */
+final class RecipePerformance {
+
+    private static final String TABLE = RecipePerformance.class.getName() + ".TABLE";
+
+    /**
+     * The after visits a {@link TreeVisitor} schedules, created on the first {@code doAfterVisit} of a visit.
+     */
+    private static final @Nullable Field AFTER_VISIT = field(TreeVisitor.class, "afterVisit");
+    private static final @Nullable Field PRECONDITION = field(Preconditions.Check.class, "check");
+    private static final @Nullable Field CHECKED_VISITOR = field(Preconditions.Check.class, "v");
+
+    private RecipePerformance() {
+    }
+
+    static void enable(ExecutionContext ctx, HibernateRecipePerformance table) {
+        ctx.putMessage(TABLE, table);
+    }
+
+    /**
+     * @return the visitor of the recipe, recording a row for every source file it visits while measurements are
+     * enabled.
+     */
+    static TreeVisitor<?, ExecutionContext> measure(Recipe recipe, TreeVisitor<?, ExecutionContext> visitor) {
+        return new Measured(recipe, visitor);
+    }
+
+    private static @Nullable Field field(Class<?> type, String name) {
+        try {
+            Field field = type.getDeclaredField(name);
+            field.setAccessible(true);
+            return field;
+        } catch (NoSuchFieldException | RuntimeException e) {
+            // Measured without the precondition or after visits of the recipe
+            return null;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static @Nullable TreeVisitor<?, ExecutionContext> get(@Nullable Field field, TreeVisitor<?, ExecutionContext> visitor) {
+        try {
+            return field == null ? null : (TreeVisitor<?, ExecutionContext>) field.get(visitor);
+        } catch (IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    private static class Measured extends TreeVisitor<Tree, ExecutionContext> {
+        private final Recipe recipe;
+        private final TreeVisitor<?, ExecutionContext> visitor;
+
+        Measured(Recipe recipe, TreeVisitor<?, ExecutionContext> visitor) {
+            this.recipe = recipe;
+            this.visitor = visitor;
+        }
+
+        @Override
+        public boolean isAcceptable(SourceFile sourceFile, ExecutionContext ctx) {
+            return visitor.isAcceptable(sourceFile, ctx);
+        }
+
+        @Override
+        public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
+            HibernateRecipePerformance table = ctx.getMessage(TABLE);
+            if (table == null || !(tree instanceof SourceFile)) {
+                return visitor.visit(tree, ctx);
+            }
+
+            TreeVisitor<?, ExecutionContext> precondition = null;
+            TreeVisitor<?, ExecutionContext> checked = visitor;
+            if (visitor instanceof Preconditions.Check) {
+                precondition = get(PRECONDITION, visitor);
+                TreeVisitor<?, ExecutionContext> v = get(CHECKED_VISITOR, visitor);
+                if (precondition == null || v == null) {
+                    precondition = null;
+                } else {
+                    checked = v;
+                }
+            }
+
+            int templateCompilations = JavaTemplateCache.compilations(ctx);
+            AfterVisits afterVisits = AfterVisits.install(checked);
+            long start = System.nanoTime();
+            boolean preconditionMatched = precondition == null || precondition.visit(tree, ctx) != tree;
+            Tree result = preconditionMatched ? checked.visit(tree, ctx) : tree;
+            long elapsed = System.nanoTime() - start;
+            table.insertRow(ctx, new HibernateRecipePerformance.Row(
+                    ((SourceFile) tree).getSourcePath().toString(),
+                    recipe.getName(),
+                    preconditionMatched,
+                    result != tree,
+                    elapsed,
+                    JavaTemplateCache.compilations(ctx) - templateCompilations,
+                    afterVisits.scheduled
+            ));
+            return result;
+        }
+    }
+
+    /**
+     * Stands in for the list of after visits of a visitor about to visit a source file, counting what it schedules.
+     */
+    private static class AfterVisits extends ArrayList<TreeVisitor<?, ExecutionContext>> {
+        int scheduled;
+
+        @Override
+        public boolean add(TreeVisitor<?, ExecutionContext> afterVisit) {
+            scheduled++;
+            return super.add(afterVisit);
+        }
+
+        static AfterVisits install(TreeVisitor<?, ExecutionContext> visitor) {
+            AfterVisits afterVisits = new AfterVisits();
+            try {
+                if (AFTER_VISIT != null && AFTER_VISIT.get(visitor) == null) {
+                    AFTER_VISIT.set(visitor, afterVisits);
+                }
+            } catch (IllegalAccessException | IllegalArgumentException ignored) {
+                // Counted as no after visits
+            }
+            return afterVisits;
+        }
+    }
+}
@@ -22,17 +22,14 @@ import org.openrewrite.Recipe;
 import org.openrewrite.TreeVisitor;
 import org.openrewrite.java.AnnotationMatcher;
 import org.openrewrite.java.JavaIsoVisitor;
-import org.openrewrite.java.RemoveAnnotationVisitor;
 import org.openrewrite.java.search.UsesType;
 import org.openrewrite.java.service.AnnotationService;
 import org.openrewrite.java.tree.J;
 
 public class RemoveInvalidHibernateGeneratedValueAnnotation extends Recipe {
 
-    private static final AnnotationMatcher MATCHER_GENERATED_VALUE_ANNOTATION
-            = new AnnotationMatcher("@jakarta.persistence.GeneratedValue", true);
-    private static final AnnotationMatcher MATCHER_ID_ANNOTATION
-            = new AnnotationMatcher("@jakarta.persistence.Id", true);
+    static final AnnotationMatcher MATCHER_GENERATED_VALUE_ANNOTATION = persistenceAnnotation("GeneratedValue");
+    static final AnnotationMatcher MATCHER_ID_ANNOTATION = persistenceAnnotation("Id");
 
     @Getter
     final String displayName = "Remove invalid `@GeneratedValue` annotation";
@@ -49,21 +46,24 @@ public class RemoveInvalidHibernateGeneratedValueAnnotation extends Recipe {
                     public J.Annotation visitAnnotation(J.Annotation annotation, ExecutionContext ctx) {
                         if (MATCHER_GENERATED_VALUE_ANNOTATION.matches(annotation) &&
                             !service(AnnotationService.class).matches(getCursor().getParentTreeCursor(), MATCHER_ID_ANNOTATION)) {
-                            doAfterVisit(new RemoveAnnotationVisitor(specificAnnotationMatcher(annotation)));
+                            DeferredAnnotationRemoval.remove(getCursor(), "@jakarta.persistence.GeneratedValue", annotation, this::doAfterVisit);
                         }
                         return annotation;
                     }
-
-                    private AnnotationMatcher specificAnnotationMatcher(J.Annotation annotation) {
-                        return new AnnotationMatcher(
-                                // ignored in practice, as we only match annotations previously found just above
-                                "@jakarta.persistence.GeneratedValue", true) {
-                            @Override
-                            public boolean matches(J.Annotation anno) {
-                                return annotation.equals(anno);
-                            }
-                        };
-                    }
                 });
     }
+
+    /**
+     * @return a matcher for the annotation of either {@code jakarta.persistence} or {@code javax.persistence}, so
+     * that recipes running before the Jakarta migration can share it.
+     */
+    private static AnnotationMatcher persistenceAnnotation(String simpleName) {
+        AnnotationMatcher javax = new AnnotationMatcher("@javax.persistence." + simpleName, true);
+        return new AnnotationMatcher("@jakarta.persistence." + simpleName, true) {
+            @Override
+            public boolean matches(J.Annotation annotation) {
+                return super.matches(annotation) || javax.matches(annotation);
+            }
+        };
+    }
 }
@@ -16,62 +16,100 @@
 package org.openrewrite.hibernate;
 
 import lombok.Getter;
+import org.jspecify.annotations.Nullable;
 import org.openrewrite.ExecutionContext;
 import org.openrewrite.Preconditions;
-import org.openrewrite.Recipe;
+import org.openrewrite.ScanningRecipe;
 import org.openrewrite.TreeVisitor;
+import org.openrewrite.hibernate.AssociationIndex.Association;
 import org.openrewrite.internal.ListUtils;
 import org.openrewrite.java.AnnotationMatcher;
-import org.openrewrite.java.JavaIsoVisitor;
 import org.openrewrite.java.JavaTemplate;
-import org.openrewrite.java.RemoveAnnotationVisitor;
-import org.openrewrite.java.search.FindAnnotations;
+import org.openrewrite.java.JavaVisitor;
+import org.openrewrite.java.MethodMatcher;
 import org.openrewrite.java.search.UsesType;
 import org.openrewrite.java.tree.*;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
 
-public class ReplaceLazyCollectionAnnotation extends Recipe {
+public class ReplaceLazyCollectionAnnotation extends ScanningRecipe<AssociationIndex> {
+
+    private static final AnnotationMatcher LAZY_COLLECTION = new AnnotationMatcher("@org.hibernate.annotations.LazyCollection");
+    private static final MethodMatcher COLLECTION_SIZE = new MethodMatcher("java.util.Collection size()", true);
+    private static final MethodMatcher COLLECTION_IS_EMPTY = new MethodMatcher("java.util.Collection isEmpty()", true);
+    private static final MethodMatcher COLLECTION_CONTAINS = new MethodMatcher("java.util.Collection contains(java.lang.Object)", true);
+
     @Getter
     final String displayName = "Replace `@LazyCollection` with `jakarta.persistence.FetchType`";
 
     @Getter
-    final String description = "Adds the `FetchType` to jakarta annotations and deletes `@LazyCollection`.";
+    final String description = "Adds the `FetchType` to jakarta annotations and deletes `@LazyCollection`. " +
+      "Extra lazy collections become `FetchType.LAZY`, and their `size()`, `isEmpty()` and `contains(Object)` calls are replaced " +
+      "with `Hibernate.size(..)` and `Hibernate.contains(..)`, which query the database instead of initializing the collection.";
 
     @Override
-    public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return Preconditions.check(new UsesType<>("org.hibernate.annotations.LazyCollection", true), new JavaIsoVisitor<ExecutionContext>() {
-            @Override
-            public J.CompilationUnit visitCompilationUnit(J.CompilationUnit cu, ExecutionContext ctx) {
-                maybeRemoveImport("org.hibernate.annotations.LazyCollection");
-                maybeRemoveImport("org.hibernate.annotations.LazyCollectionOption");
-                return super.visitCompilationUnit(cu, ctx);
-            }
+    public AssociationIndex getInitialValue(ExecutionContext ctx) {
+        return new AssociationIndex();
+    }
 
+    @Override
+    public TreeVisitor<?, ExecutionContext> getScanner(AssociationIndex associations) {
+        return associations.scanner();
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor(AssociationIndex associations) {
+        // Call sites of extra lazy associations can only be found in sources referring to the entities declaring them
+        List<TreeVisitor<?, ExecutionContext>> uses = new ArrayList<>();
+        uses.add(new UsesType<>("org.hibernate.annotations.LazyCollection", true));
+        for (String entity : associations.extraLazyEntities()) {
+            uses.add(new UsesType<>(entity, true));
+        }
+        return Preconditions.check(Preconditions.or(uses.toArray(new TreeVisitor[0])), new JavaVisitor<ExecutionContext>() {
             @Override
-            public J.MethodDeclaration visitMethodDeclaration(J.MethodDeclaration method, ExecutionContext ctx) {
-                J.MethodDeclaration j = removeLazyCollectionAnnotation(method, ctx);
-                return super.visitMethodDeclaration(j, ctx);
+            public J visitMethodDeclaration(J.MethodDeclaration method, ExecutionContext ctx) {
+                J.MethodDeclaration m = method;
+                List<J.Annotation> annotations = removeLazyCollectionAnnotation(m.getLeadingAnnotations());
+                if (annotations != m.getLeadingAnnotations()) {
+                    Space prefix = m.getLeadingAnnotations().get(0).getPrefix();
+                    m = m.withLeadingAnnotations(annotations);
+                    if (annotations.isEmpty()) {
+                        if (!m.getModifiers().isEmpty()) {
+                            m = m.withModifiers(ListUtils.mapFirst(m.getModifiers(), mod -> mod.withPrefix(prefix)));
+                        } else if (m.getReturnTypeExpression() != null) {
+                            m = m.withReturnTypeExpression(m.getReturnTypeExpression().withPrefix(prefix));
+                        } else {
+                            m = m.withName(m.getName().withPrefix(prefix));
+                        }
+                    }
+                }
+                return super.visitMethodDeclaration(m, ctx);
             }
 
             @Override
-            public J.VariableDeclarations visitVariableDeclarations(J.VariableDeclarations multiVariable,
-                                                                    ExecutionContext ctx) {
-                J.VariableDeclarations j = removeLazyCollectionAnnotation(multiVariable, ctx);
-                return super.visitVariableDeclarations(j, ctx);
+            public J visitVariableDeclarations(J.VariableDeclarations multiVariable, ExecutionContext ctx) {
+                J.VariableDeclarations v = multiVariable;
+                List<J.Annotation> annotations = removeLazyCollectionAnnotation(v.getLeadingAnnotations());
+                if (annotations != v.getLeadingAnnotations()) {
+                    Space prefix = v.getLeadingAnnotations().get(0).getPrefix();
+                    v = v.withLeadingAnnotations(annotations);
+                    if (annotations.isEmpty()) {
+                        if (!v.getModifiers().isEmpty()) {
+                            v = v.withModifiers(ListUtils.mapFirst(v.getModifiers(), mod -> mod.withPrefix(prefix)));
+                        } else if (v.getTypeExpression() != null) {
+                            v = v.withTypeExpression(v.getTypeExpression().withPrefix(prefix));
+                        }
+                    }
+                }
+                return super.visitVariableDeclarations(v, ctx);
             }
 
             @Override
-            public J.Annotation visitAnnotation(J.Annotation annotation, ExecutionContext ctx) {
-                J.Annotation ann = super.visitAnnotation(annotation, ctx);
-
-                JavaType annType = ann.getType();
-                if (!(TypeUtils.isOfClassType(annType, "jakarta.persistence.ElementCollection") ||
-                      TypeUtils.isOfClassType(annType, "jakarta.persistence.OneToOne") ||
-                      TypeUtils.isOfClassType(annType, "jakarta.persistence.OneToMany") ||
-                      TypeUtils.isOfClassType(annType, "jakarta.persistence.ManyToOne") ||
-                      TypeUtils.isOfClassType(annType, "jakarta.persistence.ManyToMany"))) {
+            public J visitAnnotation(J.Annotation annotation, ExecutionContext ctx) {
+                J.Annotation ann = (J.Annotation) super.visitAnnotation(annotation, ctx);
+
+                if (!AssociationIndex.isAssociation(ann.getType(), "jakarta.persistence")) {
                     // recipe does not apply
                     return ann;
                 }
@@ -93,49 +131,135 @@ public class ReplaceLazyCollectionAnnotation extends Recipe {
                     return ann;
                 }
 
-                maybeAddImport("jakarta.persistence.FetchType", false);
-                J.Annotation annotationWithFetch = JavaTemplate.builder("fetch = " + fetchType)
-                        .imports("jakarta.persistence.FetchType")
-                        .contextSensitive()
-                        .build()
-                        .apply(getCursor(), ann.getCoordinates().replaceArguments());
-                JavaType fetchTypeType = JavaType.buildType("jakarta.persistence.FetchType");
-                J.Assignment assignment = (J.Assignment) annotationWithFetch.getArguments().get(0);
-                assignment = assignment
-                        .withPrefix(currentArgs == null || currentArgs.isEmpty() ? Space.EMPTY : Space.SINGLE_SPACE)
-                        .withAssignment(assignment.getAssignment().withType(fetchTypeType))
-                        .withType(fetchTypeType);
-                return ann.withArguments(ListUtils.concat(currentArgs, assignment));
+                ImportLedger.of(getCursor(), this::doAfterVisit).add("jakarta.persistence.FetchType", false);
+                J.Assignment fetch = AnnotationTrees.argument("fetch",
+                        AnnotationTrees.enumConstant("jakarta.persistence.FetchType", fetchType, Space.EMPTY),
+                        currentArgs == null || currentArgs.isEmpty() ? Space.EMPTY : Space.SINGLE_SPACE);
+                return ann.withArguments(ListUtils.concat(currentArgs, fetch));
             }
 
-            private <T extends J> T removeLazyCollectionAnnotation(T tree, ExecutionContext ctx) {
-                Optional<J.Annotation> lazyAnnotation = FindAnnotations.find(tree, "org.hibernate.annotations.LazyCollection")
-                        .stream().findFirst();
-                if (!lazyAnnotation.isPresent()) {
-                    return tree;
+            @Override
+            public J visitUnary(J.Unary unary, ExecutionContext ctx) {
+                if (unary.getOperator() == J.Unary.Type.Not && unary.getExpression() instanceof J.MethodInvocation) {
+                    J.MethodInvocation isEmpty = (J.MethodInvocation) unary.getExpression();
+                    Expression collection = extraLazyCollection(isEmpty);
+                    if (collection != null && COLLECTION_IS_EMPTY.matches(isEmpty)) {
+                        return hibernate("Hibernate.size(#{any(java.util.Collection)}) > 0", ctx)
+                                .apply(getCursor(), unary.getCoordinates().replace(), collection);
+                    }
                 }
+                return super.visitUnary(unary, ctx);
+            }
 
-                // Capture the FetchType from the LazyCollectionOption
-                List<Expression> arguments = lazyAnnotation.get().getArguments();
-                if (arguments == null || arguments.isEmpty()) {
-                    // default is LazyCollectionOption.TRUE
-                    getCursor().putMessage("fetchType", "FetchType.LAZY");
+            @Override
+            public J visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
+                J j = super.visitMethodInvocation(method, ctx);
+                if (!(j instanceof J.MethodInvocation)) {
+                    return j;
+                }
+                J.MethodInvocation m = (J.MethodInvocation) j;
+                Expression collection = extraLazyCollection(m);
+                if (collection == null) {
+                    return m;
+                }
+                if (COLLECTION_SIZE.matches(m)) {
+                    return hibernate("Hibernate.size(#{any(java.util.Collection)})", ctx)
+                            .apply(updateCursor(m), m.getCoordinates().replace(), collection);
+                } else if (COLLECTION_CONTAINS.matches(m)) {
+                    return hibernate("Hibernate.contains(#{any(java.util.Collection)}, #{any()})", ctx)
+                            .apply(updateCursor(m), m.getCoordinates().replace(), collection, m.getArguments().get(0));
+                }
+                // Keep the comparison together when it ends up as the operand of another binary operator
+                boolean operand = getCursor().getParentTreeCursor().getValue() instanceof J.Binary;
+                return hibernate(operand ?
+                        "(Hibernate.size(#{any(java.util.Collection)}) == 0)" :
+                        "Hibernate.size(#{any(java.util.Collection)}) == 0", ctx)
+                        .apply(updateCursor(m), m.getCoordinates().replace(), collection);
+            }
+
+            /**
+             * @return the collection of a {@code size()}, {@code isEmpty()} or {@code contains(Object)} call, when it
+             * is an extra lazy association read through its getter or field.
+             */
+            private @Nullable Expression extraLazyCollection(J.MethodInvocation m) {
+                Expression select = m.getSelect();
+                if (select == null || !(COLLECTION_SIZE.matches(m) || COLLECTION_IS_EMPTY.matches(m) || COLLECTION_CONTAINS.matches(m))) {
+                    return null;
+                }
+                JavaType.FullyQualified owner = null;
+                String attribute = null;
+                if (select instanceof J.MethodInvocation && ((J.MethodInvocation) select).getMethodType() != null) {
+                    attribute = AssociationIndex.attribute((J.MethodInvocation) select);
+                    owner = ((J.MethodInvocation) select).getMethodType().getDeclaringType();
                 } else {
-                    switch (arguments.get(0).toString()) {
-                        case "LazyCollectionOption.FALSE":
-                            getCursor().putMessage("fetchType", "FetchType.EAGER");
-                            break;
-                        case "LazyCollectionOption.TRUE":
-                            getCursor().putMessage("fetchType", "FetchType.LAZY");
-                            break;
-                        default:
-                            // EXTRA can't be mapped to a FetchType; requires refactoring
-                            return tree;
+                    J.Identifier name = select instanceof J.FieldAccess ? ((J.FieldAccess) select).getName() :
+                            select instanceof J.Identifier ? (J.Identifier) select : null;
+                    if (name != null && name.getFieldType() != null) {
+                        attribute = name.getSimpleName();
+                        owner = TypeUtils.asFullyQualified(name.getFieldType().getOwner());
+                    }
+                }
+                if (attribute == null) {
+                    return null;
+                }
+                Association association = associations.get(owner, attribute);
+                return association != null && association.isExtraLazy() ? select : null;
+            }
+
+            private JavaTemplate hibernate(String code, ExecutionContext ctx) {
+                ImportLedger.of(getCursor(), this::doAfterVisit).add("org.hibernate.Hibernate");
+                return JavaTemplateCache.builder(code)
+                        .imports("org.hibernate.Hibernate")
+                        .classpathFromResources("hibernate-core-6.+")
+                        .build(ctx);
+            }
+
+            /**
+             * Captures the {@code FetchType} of a {@code @LazyCollection} among the leading annotations of the
+             * declaration the cursor is on, so that the mapping annotation visited next can pick it up.
+             *
+             * @return the leading annotations without {@code @LazyCollection}, or the same list when there is no
+             * {@code @LazyCollection} with a mappable option.
+             */
+            private List<J.Annotation> removeLazyCollectionAnnotation(List<J.Annotation> leadingAnnotations) {
+                for (int i = 0; i < leadingAnnotations.size(); i++) {
+                    J.Annotation lazyAnnotation = leadingAnnotations.get(i);
+                    if (!LAZY_COLLECTION.matches(lazyAnnotation)) {
+                        continue;
+                    }
+
+                    // Capture the FetchType from the LazyCollectionOption
+                    List<Expression> arguments = lazyAnnotation.getArguments();
+                    if (arguments == null || arguments.isEmpty()) {
+                        // default is LazyCollectionOption.TRUE
+                        getCursor().putMessage("fetchType", "LAZY");
+                    } else {
+                        switch (arguments.get(0).toString()) {
+                            case "LazyCollectionOption.FALSE":
+                                getCursor().putMessage("fetchType", "EAGER");
+                                break;
+                            case "LazyCollectionOption.TRUE":
+                            case "LazyCollectionOption.EXTRA":
+                                // The call sites relying on EXTRA are migrated to Hibernate.size(..) and Hibernate.contains(..)
+                                getCursor().putMessage("fetchType", "LAZY");
+                                break;
+                            default:
+                                return leadingAnnotations;
+                        }
+                    }
+                    ImportLedger.of(getCursor(), this::doAfterVisit)
+                            .remove("org.hibernate.annotations.LazyCollection")
+                            .remove("org.hibernate.annotations.LazyCollectionOption");
+
+                    // The annotation following the removed one takes over its position
+                    List<J.Annotation> remaining = new ArrayList<>(leadingAnnotations);
+                    remaining.remove(i);
+                    if (i < remaining.size()) {
+                        remaining.set(i, remaining.get(i).withPrefix(lazyAnnotation.getPrefix()));
                     }
+                    return remaining;
                 }
-                //noinspection unchecked
-                return (T) new RemoveAnnotationVisitor(new AnnotationMatcher("@org.hibernate.annotations.LazyCollection"))
-                        .visit(tree, ctx, getCursor().getParentOrThrow());
+                return leadingAnnotations;
             }
         });
     }
@@ -16,13 +16,13 @@
 package org.openrewrite.hibernate;
 
 import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import org.jspecify.annotations.Nullable;
 import org.openrewrite.*;
 import org.openrewrite.internal.ListUtils;
 import org.openrewrite.java.*;
 import org.openrewrite.java.search.UsesType;
 import org.openrewrite.java.tree.*;
-import org.openrewrite.marker.Markers;
 
 import java.time.Duration;
 import java.util.Arrays;
@@ -30,9 +30,7 @@ import java.util.HashSet;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicReference;
 
-import static java.util.Collections.emptyList;
-
-public class TypeAnnotationParameter extends Recipe {
+public class TypeAnnotationParameter extends ScanningRecipe<TypeDefIndex> {
 
     private static final String ORG_HIBERNATE_ANNOTATIONS_TYPE = "org.hibernate.annotations.Type";
     private static final AnnotationMatcher FQN_TYPE_ANNOTATION = new AnnotationMatcher("@" + ORG_HIBERNATE_ANNOTATIONS_TYPE);
@@ -45,179 +43,186 @@ public class TypeAnnotationParameter extends Recipe {
     final String displayName = "`@Type` annotation type parameter migration";
 
     @Getter
-    final String description = "Hibernate 6.x has 'type' parameter of type String replaced with 'value' of type class.";
+    final String description = "Hibernate 6.x has 'type' parameter of type String replaced with 'value' of type class. " +
+      "Aliases are resolved against the `@TypeDef` annotations of the whole repository, so that type definitions " +
+      "declared in `package-info.java` or on a shared base class are found as well.";
 
     @Getter
     final Duration estimatedEffortPerOccurrence = Duration.ofMinutes(1);
 
-    private static final Set<String> REMOVED_FQNS = new HashSet<>(Arrays.asList(
-            "org.hibernate.type.EnumType",
-            "org.hibernate.type.SerializableType",
-            "org.hibernate.type.SerializableToBlobType",
-            "org.hibernate.type.TextType"));
+    @Override
+    public TypeDefIndex getInitialValue(ExecutionContext ctx) {
+        return new TypeDefIndex();
+    }
 
     @Override
-    public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return Preconditions.check(new UsesType<>(ORG_HIBERNATE_ANNOTATIONS_TYPE, false), new JavaIsoVisitor<ExecutionContext>() {
-            @Override
-            public J.@Nullable Annotation visitAnnotation(J.Annotation annotation, ExecutionContext ctx) {
-                J.Annotation a = super.visitAnnotation(annotation, ctx);
-                if (FQN_TYPEDEF_ANNOTATION.matches(a)) {
-                    Expression name = getAttributeValue(annotation, "name");
-                    if (name instanceof J.Literal) {
-                        String alias = (String) ((J.Literal) name).getValue();
-                        Expression typeClass = getAttributeValue(annotation, "typeClass");
-                        getCursor().putMessageOnFirstEnclosing(J.ClassDeclaration.class, alias, typeClass);
-                    }
-                    // Always remove @TypeDef
-                    maybeRemoveImport(ORG_HIBERNATE_ANNOTATIONS_TYPEDEF);
-                    removeTypeDefAnnotations(a);
-                    return a;
-                }
+    public TreeVisitor<?, ExecutionContext> getScanner(TypeDefIndex typeDefs) {
+        return typeDefs.scanner();
+    }
 
-                if (FQN_TYPEDEFS_ANNOTATION.matches(a)) {
-                    maybeRemoveImport(ORG_HIBERNATE_ANNOTATIONS_TYPEDEFS);
-                    removeTypeDefAnnotations(a);
-                    return a;
-                }
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor(TypeDefIndex typeDefs) {
+        Handler handler = new Handler(typeDefs);
+        return Preconditions.check(handler.getPrecondition(), new AnnotationDispatcher(handler));
+    }
 
-                if (!FQN_TYPE_ANNOTATION.matches(a)) {
-                    return a;
-                }
+    @RequiredArgsConstructor
+    static class Handler implements AnnotationHandler {
 
-                // Remove entire annotation if type is one of the removed types
-                if (a.getArguments() != null && a.getArguments().stream().anyMatch(arg -> {
-                    if (arg instanceof J.Assignment) {
-                        J.Assignment assignment = (J.Assignment) arg;
-                        if (assignment.getVariable() instanceof J.Identifier &&
-                                "type".equals(((J.Identifier) assignment.getVariable()).getSimpleName()) &&
-                                assignment.getAssignment() instanceof J.Literal) {
-                            String fqTypeName = (String) ((J.Literal) assignment.getAssignment()).getValue();
-                            return REMOVED_FQNS.contains(fqTypeName);
-                        }
-                    }
-                    return false;
-                })) {
-                    maybeRemoveImport(ORG_HIBERNATE_ANNOTATIONS_TYPE);
-                    return null;
-                }
+        private final TypeDefIndex typeDefs;
 
-                // Replace with Temporal if applicable
-                AtomicReference<String> temporalType = getTemporalTypeArgument(a);
-                //noinspection ConstantValue
-                if (temporalType.get() != null) {
-                    maybeRemoveImport(ORG_HIBERNATE_ANNOTATIONS_TYPE);
-                    maybeAddImport("jakarta.persistence.Temporal");
-                    maybeAddImport("jakarta.persistence.TemporalType");
-                    return JavaTemplate.builder("@Temporal(TemporalType." + temporalType.get().toUpperCase() + ")")
-                            .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "jakarta.persistence-api"))
-                            .imports("jakarta.persistence.Temporal", "jakarta.persistence.TemporalType")
-                            .build()
-                            .apply(getCursor(), a.getCoordinates().replace());
+        @Getter
+        final Set<String> annotationTypes = new HashSet<>(Arrays.asList(
+                ORG_HIBERNATE_ANNOTATIONS_TYPE,
+                ORG_HIBERNATE_ANNOTATIONS_TYPEDEF,
+                ORG_HIBERNATE_ANNOTATIONS_TYPEDEFS));
+
+        @Override
+        public TreeVisitor<?, ExecutionContext> getPrecondition() {
+            // Type definitions are removed wherever they are declared, also where no @Type uses them
+            return Preconditions.or(
+                    new UsesType<>(ORG_HIBERNATE_ANNOTATIONS_TYPE, false),
+                    new UsesType<>(ORG_HIBERNATE_ANNOTATIONS_TYPEDEF, false),
+                    new UsesType<>(ORG_HIBERNATE_ANNOTATIONS_TYPEDEFS, false));
+        }
+
+        @Override
+        public J.@Nullable Annotation visitAnnotation(AnnotationDispatcher dispatcher, J.Annotation annotation, J.Annotation a, ExecutionContext ctx) {
+            boolean onPackage = dispatcher.getCursor().getParentTreeCursor().getValue() instanceof J.Package;
+            if (FQN_TYPEDEF_ANNOTATION.matches(a)) {
+                Expression name = getAttributeValue(annotation, "name");
+                if (name instanceof J.Literal && !onPackage) {
+                    String alias = (String) ((J.Literal) name).getValue();
+                    Expression typeClass = getAttributeValue(annotation, "typeClass");
+                    dispatcher.getCursor().putMessageOnFirstEnclosing(J.ClassDeclaration.class, alias, typeClass);
                 }
+                // Always remove @TypeDef
+                dispatcher.imports().remove(ORG_HIBERNATE_ANNOTATIONS_TYPEDEF);
+                return removeTypeDefAnnotations(dispatcher, a, onPackage);
+            }
 
-                // Replace argument with .class reference to the same type
-                return replaceArgumentWithClass(a);
+            if (FQN_TYPEDEFS_ANNOTATION.matches(a)) {
+                dispatcher.imports().remove(ORG_HIBERNATE_ANNOTATIONS_TYPEDEFS);
+                return removeTypeDefAnnotations(dispatcher, a, onPackage);
             }
 
-            private @Nullable Expression getAttributeValue(J.Annotation annotation, String attributeName) {
-                if (annotation.getArguments() != null) {
-                    for (Expression arg : annotation.getArguments()) {
-                        if (arg instanceof J.Assignment) {
-                            J.Assignment assignment = (J.Assignment) arg;
-                            if (assignment.getVariable() instanceof J.Identifier &&
-                                    attributeName.equals(((J.Identifier) assignment.getVariable()).getSimpleName())) {
-                                return assignment.getAssignment();
-                            }
-                        }
+            if (!FQN_TYPE_ANNOTATION.matches(a)) {
+                return a;
+            }
+
+            // Remove entire annotation if type is one of the removed types
+            if (a.getArguments() != null && a.getArguments().stream().anyMatch(arg -> {
+                if (arg instanceof J.Assignment) {
+                    J.Assignment assignment = (J.Assignment) arg;
+                    if (assignment.getVariable() instanceof J.Identifier &&
+                            "type".equals(((J.Identifier) assignment.getVariable()).getSimpleName()) &&
+                            assignment.getAssignment() instanceof J.Literal) {
+                        String fqTypeName = (String) ((J.Literal) assignment.getAssignment()).getValue();
+                        return LegacyTypeRegistry.isRemoved(fqTypeName);
                     }
                 }
+                return false;
+            })) {
+                dispatcher.imports().remove(ORG_HIBERNATE_ANNOTATIONS_TYPE);
                 return null;
             }
 
-            private AtomicReference<@Nullable String> getTemporalTypeArgument(J.Annotation a) {
-                return new JavaIsoVisitor<AtomicReference<@Nullable String>>() {
-                    @Override
-                    public J.Assignment visitAssignment(J.Assignment assignment, AtomicReference<@Nullable String> ref) {
-                        J.Assignment as = super.visitAssignment(assignment, ref);
-                        if (J.Literal.isLiteralValue(as.getAssignment(), "date") ||
-                                J.Literal.isLiteralValue(as.getAssignment(), "time") ||
-                                J.Literal.isLiteralValue(as.getAssignment(), "timestamp")) {
-                            ref.set((String) ((J.Literal) as.getAssignment()).getValue());
-                        }
-                        return as;
-                    }
-                }.reduce(a, new AtomicReference<>());
+            // Replace with Temporal if applicable
+            AtomicReference<String> temporalType = getTemporalTypeArgument(a);
+            //noinspection ConstantValue
+            if (temporalType.get() != null) {
+                dispatcher.imports().remove(ORG_HIBERNATE_ANNOTATIONS_TYPE);
+                dispatcher.imports().add("jakarta.persistence.Temporal");
+                dispatcher.imports().add("jakarta.persistence.TemporalType");
+                return JavaTemplateCache.builder("@Temporal(TemporalType." + temporalType.get().toUpperCase() + ")")
+                        .classpathFromResources("jakarta.persistence-api")
+                        .imports("jakarta.persistence.Temporal", "jakarta.persistence.TemporalType")
+                        .build(ctx)
+                        .apply(dispatcher.getCursor(), a.getCoordinates().replace());
             }
 
-            private J.Annotation replaceArgumentWithClass(J.Annotation a) {
-                final boolean isOnlyParameter = a.getArguments() != null && a.getArguments().size() == 1;
-                // Replace type parameter with value parameter
-                return a.withArguments(ListUtils.map(a.getArguments(), arg -> {
+            // Replace argument with .class reference to the same type
+            return replaceArgumentWithClass(dispatcher, a);
+        }
+
+        private @Nullable Expression getAttributeValue(J.Annotation annotation, String attributeName) {
+            if (annotation.getArguments() != null) {
+                for (Expression arg : annotation.getArguments()) {
                     if (arg instanceof J.Assignment) {
                         J.Assignment assignment = (J.Assignment) arg;
                         if (assignment.getVariable() instanceof J.Identifier &&
-                                "type".equals(((J.Identifier) assignment.getVariable()).getSimpleName()) &&
-                                assignment.getAssignment() instanceof J.Literal) {
-                            String fqTypeName = (String) ((J.Literal) assignment.getAssignment()).getValue();
-
-                            Expression nearestMessage = getCursor().getNearestMessage(fqTypeName);
-                            Expression classRef = nearestMessage != null && nearestMessage.getType() != JavaType.Unknown.getInstance() ?
-                                    nearestMessage :
-                                    buildClassReference(
-                                            nearestMessage != null ? getFullyQualifiedTypeName(nearestMessage) : fqTypeName,
-                                            isOnlyParameter ? Space.EMPTY : assignment.getAssignment().getPrefix());
-
-                            if (isOnlyParameter) {
-                                return classRef.withPrefix(Space.EMPTY);
-                            }
-                            return assignment
-                                    .withVariable(((J.Identifier) assignment.getVariable()).withSimpleName("value"))
-                                    .withAssignment(classRef);
+                                attributeName.equals(((J.Identifier) assignment.getVariable()).getSimpleName())) {
+                            return assignment.getAssignment();
                         }
                     }
-                    return arg;
-                }));
+                }
             }
+            return null;
+        }
 
-            private J.FieldAccess buildClassReference(String fullyQualifiedName, Space prefix) {
-                String[] parts = fullyQualifiedName.split("\\.");
-                J.Identifier identifier = new J.Identifier(
-                        Tree.randomId(),
-                        Space.EMPTY,
-                        Markers.EMPTY,
-                        emptyList(),
-                        parts[parts.length - 1],
-                        JavaType.buildType(fullyQualifiedName),
-                        null
-                );
-                // Add .class at the end
-                maybeAddImport(fullyQualifiedName);
-                return new J.FieldAccess(
-                        Tree.randomId(),
-                        prefix,
-                        Markers.EMPTY,
-                        identifier,
-                        JLeftPadded.build(new J.Identifier(Tree.randomId(), Space.EMPTY, Markers.EMPTY, emptyList(), "class", null, null)),
-                        JavaType.buildType("java.lang.Class")
-                );
-            }
+        private AtomicReference<@Nullable String> getTemporalTypeArgument(J.Annotation a) {
+            return new JavaIsoVisitor<AtomicReference<@Nullable String>>() {
+                @Override
+                public J.Assignment visitAssignment(J.Assignment assignment, AtomicReference<@Nullable String> ref) {
+                    J.Assignment as = super.visitAssignment(assignment, ref);
+                    if (J.Literal.isLiteralValue(as.getAssignment(), "date") ||
+                            J.Literal.isLiteralValue(as.getAssignment(), "time") ||
+                            J.Literal.isLiteralValue(as.getAssignment(), "timestamp")) {
+                        ref.set((String) ((J.Literal) as.getAssignment()).getValue());
+                    }
+                    return as;
+                }
+            }.reduce(a, new AtomicReference<>());
+        }
 
-            private void removeTypeDefAnnotations(J.Annotation typeDefAnnotation) {
-                doAfterVisit(new RemoveAnnotationVisitor(new AnnotationMatcher("@org.hibernate.annotations.TypeDef*") {
-                    @Override
-                    public boolean matches(J.Annotation a) {
-                        if (a == typeDefAnnotation) {
-                            return true;
+        private J.Annotation replaceArgumentWithClass(AnnotationDispatcher dispatcher, J.Annotation a) {
+            final boolean isOnlyParameter = a.getArguments() != null && a.getArguments().size() == 1;
+            // Replace type parameter with value parameter
+            return a.withArguments(ListUtils.map(a.getArguments(), arg -> {
+                if (arg instanceof J.Assignment) {
+                    J.Assignment assignment = (J.Assignment) arg;
+                    if (assignment.getVariable() instanceof J.Identifier &&
+                            "type".equals(((J.Identifier) assignment.getVariable()).getSimpleName()) &&
+                            assignment.getAssignment() instanceof J.Literal) {
+                        String fqTypeName = (String) ((J.Literal) assignment.getAssignment()).getValue();
+
+                        Expression nearestMessage = dispatcher.getCursor().getNearestMessage(fqTypeName);
+                        Expression classRef;
+                        if (nearestMessage != null && nearestMessage.getType() != JavaType.Unknown.getInstance()) {
+                            classRef = nearestMessage;
+                        } else {
+                            // Aliases declared outside this class are resolved through the repository-wide index
+                            String typeClass = nearestMessage != null ? getFullyQualifiedTypeName(nearestMessage) : typeDefs.typeClass(fqTypeName);
+                            classRef = buildClassReference(dispatcher,
+                                    typeClass != null ? typeClass : fqTypeName,
+                                    isOnlyParameter ? Space.EMPTY : assignment.getAssignment().getPrefix());
                         }
-                        if (FQN_TYPEDEFS_ANNOTATION.matches(a)) {
-                            return a.getArguments() == null || a.getArguments().isEmpty() || a.getArguments().get(0) instanceof J.Empty;
+
+                        if (isOnlyParameter) {
+                            return classRef.withPrefix(Space.EMPTY);
                         }
-                        return false;
+                        return assignment
+                                .withVariable(((J.Identifier) assignment.getVariable()).withSimpleName("value"))
+                                .withAssignment(classRef);
                     }
-                }));
+                }
+                return arg;
+            }));
+        }
+
+        private J.FieldAccess buildClassReference(AnnotationDispatcher dispatcher, String fullyQualifiedName, Space prefix) {
+            dispatcher.imports().add(fullyQualifiedName);
+            return AnnotationTrees.classReference(fullyQualifiedName, prefix);
+        }
+
+        private J.@Nullable Annotation removeTypeDefAnnotations(AnnotationDispatcher dispatcher, J.Annotation typeDefAnnotation, boolean onPackage) {
+            if (onPackage) {
+                // The annotations of a package-info.java are dropped right away, there is no declaration to reformat
+                return null;
             }
-        });
+            DeferredAnnotationRemoval.remove(dispatcher.getCursor(), "@org.hibernate.annotations.TypeDef*", typeDefAnnotation, dispatcher::afterVisit);
+            return typeDefAnnotation;
+        }
     }
 
     private static @Nullable String getFullyQualifiedTypeName(Expression expr) {
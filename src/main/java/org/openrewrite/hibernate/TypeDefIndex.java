@@ -0,0 +1,97 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.hibernate;
+
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Preconditions;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.java.AnnotationMatcher;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.search.UsesType;
+import org.openrewrite.java.tree.Expression;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.JavaType;
+import org.openrewrite.java.tree.TypeUtils;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The {@code @TypeDef} aliases declared anywhere in a repository, mapped to the fully qualified name of their type class.
+ * Only strings are kept, so the index stays small no matter how many entities declare type definitions. An alias that
+ * is declared with different type classes in different places is not resolved through the index at all.
+ */
+final class TypeDefIndex {
+
+    private static final String ORG_HIBERNATE_ANNOTATIONS_TYPEDEF = "org.hibernate.annotations.TypeDef";
+    private static final AnnotationMatcher FQN_TYPEDEF_ANNOTATION = new AnnotationMatcher("@" + ORG_HIBERNATE_ANNOTATIONS_TYPEDEF);
+
+    private final Map<String, @Nullable String> typeClasses = new HashMap<>();
+
+    @Nullable String typeClass(String alias) {
+        return typeClasses.get(alias);
+    }
+
+    void put(String alias, String typeClass) {
+        if (typeClasses.containsKey(alias) && !typeClass.equals(typeClasses.get(alias))) {
+            typeClasses.put(alias, null);
+        } else {
+            typeClasses.put(alias, typeClass);
+        }
+    }
+
+    TreeVisitor<?, ExecutionContext> scanner() {
+        return Preconditions.check(new UsesType<>(ORG_HIBERNATE_ANNOTATIONS_TYPEDEF, false), new JavaIsoVisitor<ExecutionContext>() {
+            @Override
+            public J.Annotation visitAnnotation(J.Annotation annotation, ExecutionContext ctx) {
+                J.Annotation a = super.visitAnnotation(annotation, ctx);
+                if (FQN_TYPEDEF_ANNOTATION.matches(a) && a.getArguments() != null) {
+                    @Nullable String alias = null;
+                    @Nullable String typeClass = null;
+                    for (Expression arg : a.getArguments()) {
+                        if (arg instanceof J.Assignment && ((J.Assignment) arg).getVariable() instanceof J.Identifier) {
+                            J.Assignment assignment = (J.Assignment) arg;
+                            String attribute = ((J.Identifier) assignment.getVariable()).getSimpleName();
+                            if ("name".equals(attribute) && assignment.getAssignment() instanceof J.Literal) {
+                                alias = (String) ((J.Literal) assignment.getAssignment()).getValue();
+                            } else if ("typeClass".equals(attribute)) {
+                                typeClass = fullyQualifiedName(assignment.getAssignment());
+                            }
+                        }
+                    }
+                    if (alias != null && typeClass != null) {
+                        put(alias, typeClass);
+                    }
+                }
+                return a;
+            }
+        });
+    }
+
+    private static @Nullable String fullyQualifiedName(Expression classReference) {
+        if (!(classReference instanceof J.FieldAccess) || !"class".equals(((J.FieldAccess) classReference).getSimpleName())) {
+            return null;
+        }
+        Expression target = ((J.FieldAccess) classReference).getTarget();
+        JavaType.FullyQualified type = TypeUtils.asFullyQualified(target.getType());
+        if (type != null && !(type instanceof JavaType.Unknown)) {
+            return type.getFullyQualifiedName();
+        }
+        String printed = classReference.toString();
+        return printed.substring(0, printed.length() - ".class".length());
+    }
+}
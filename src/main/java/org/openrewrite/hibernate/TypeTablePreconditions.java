@@ -0,0 +1,92 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.hibernate;
+
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.SourceFile;
+import org.openrewrite.Tree;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.search.FindImplementations;
+import org.openrewrite.java.tree.JavaSourceFile;
+import org.openrewrite.java.tree.JavaType;
+import org.openrewrite.java.tree.TypeUtils;
+import org.openrewrite.marker.SearchResult;
+
+/**
+ * Preconditions that answer from the types in use table of a compilation unit instead of traversing it, for recipes
+ * that only apply to a small fraction of the files in a repository.
+ */
+final class TypeTablePreconditions {
+
+    private TypeTablePreconditions() {
+    }
+
+    /**
+     * Equivalent to {@link FindImplementations}, but only traverses compilation units that reference a subtype of the
+     * type at all, which a class implementing it always does through its {@code extends} or {@code implements} clause.
+     */
+    static TreeVisitor<?, ExecutionContext> findImplementations(String fullyQualifiedTypeName) {
+        return new TreeVisitor<Tree, ExecutionContext>() {
+            @Override
+            public boolean isAcceptable(SourceFile sourceFile, ExecutionContext ctx) {
+                return sourceFile instanceof JavaSourceFile;
+            }
+
+            @Override
+            public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
+                if (!(tree instanceof JavaSourceFile)) {
+                    return tree;
+                }
+                for (JavaType type : ((JavaSourceFile) tree).getTypesInUse().getTypesInUse()) {
+                    if (type instanceof JavaType.FullyQualified && TypeUtils.isAssignableTo(fullyQualifiedTypeName, type)) {
+                        return new FindImplementations(fullyQualifiedTypeName).getVisitor().visit(tree, ctx);
+                    }
+                }
+                return tree;
+            }
+        };
+    }
+
+    /**
+     * Equivalent to {@link org.openrewrite.java.search.FindMethodDeclaration}, answered from the declared methods of
+     * the compilation unit alone.
+     */
+    static TreeVisitor<?, ExecutionContext> declaresMethod(String methodPattern, boolean matchOverrides) {
+        MethodMatcher matcher = new MethodMatcher(methodPattern, matchOverrides);
+        return new TreeVisitor<Tree, ExecutionContext>() {
+            @Override
+            public boolean isAcceptable(SourceFile sourceFile, ExecutionContext ctx) {
+                return sourceFile instanceof JavaSourceFile;
+            }
+
+            @Override
+            public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
+                if (!(tree instanceof JavaSourceFile)) {
+                    return tree;
+                }
+                JavaSourceFile cu = (JavaSourceFile) tree;
+                for (JavaType.Method method : cu.getTypesInUse().getDeclaredMethods()) {
+                    if (matcher.matches(method)) {
+                        return SearchResult.found(cu);
+                    }
+                }
+                return tree;
+            }
+        };
+    }
+}
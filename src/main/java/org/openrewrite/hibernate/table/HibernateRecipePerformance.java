@@ -0,0 +1,63 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.hibernate.table;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreType;
+import lombok.Value;
+import org.openrewrite.Column;
+import org.openrewrite.DataTable;
+import org.openrewrite.Recipe;
+
+@JsonIgnoreType
+public class HibernateRecipePerformance extends DataTable<HibernateRecipePerformance.Row> {
+
+    public HibernateRecipePerformance(Recipe recipe) {
+        super(recipe,
+                "Hibernate recipe performance",
+                "The cost of every Hibernate recipe on every source file it was run on.");
+    }
+
+    @Value
+    public static class Row {
+        @Column(displayName = "Source path",
+                description = "The path of the source file the recipe was run on.")
+        String sourcePath;
+
+        @Column(displayName = "Recipe",
+                description = "The name of the recipe.")
+        String recipe;
+
+        @Column(displayName = "Precondition matched",
+                description = "Whether the source file passed the precondition of the recipe, which is always the case for recipes without one.")
+        boolean preconditionMatched;
+
+        @Column(displayName = "Changed",
+                description = "Whether the recipe changed the source file.")
+        boolean changed;
+
+        @Column(displayName = "Visit time (ns)",
+                description = "The wall time spent on the source file, including the precondition and the after visits.")
+        long visitTimeNanos;
+
+        @Column(displayName = "Template compilations",
+                description = "The number of Java templates compiled while visiting the source file.")
+        int templateCompilations;
+
+        @Column(displayName = "After visits",
+                description = "The number of after visits the recipe scheduled while visiting the source file.")
+        int afterVisits;
+    }
+}
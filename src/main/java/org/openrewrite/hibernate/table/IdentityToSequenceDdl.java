@@ -0,0 +1,62 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.hibernate.table;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreType;
+import lombok.Value;
+import org.openrewrite.Column;
+import org.openrewrite.DataTable;
+import org.openrewrite.Recipe;
+
+@JsonIgnoreType
+public class IdentityToSequenceDdl extends DataTable<IdentityToSequenceDdl.Row> {
+
+    public IdentityToSequenceDdl(Recipe recipe) {
+        super(recipe,
+                "Sequences replacing identity columns",
+                "The DDL creating the sequence of every entity whose identity column was replaced with a sequence, " +
+                "and seeding it past the identifiers already in use.");
+    }
+
+    @Value
+    public static class Row {
+        @Column(displayName = "Source path",
+                description = "The path of the source file declaring the entity.")
+        String sourcePath;
+
+        @Column(displayName = "Entity",
+                description = "The fully qualified name of the entity.")
+        String entity;
+
+        @Column(displayName = "Table",
+                description = "The table of the entity, from `@Table` or else the default Spring Boot naming strategy.")
+        String table;
+
+        @Column(displayName = "Sequence",
+                description = "The name of the sequence.")
+        String sequence;
+
+        @Column(displayName = "Create sequence",
+                description = "The statement creating the sequence.")
+        String createSequence;
+
+        @Column(displayName = "Seed sequence",
+                description = "The statements moving the sequence past the largest identifier in use, leaving a full allocation of headroom. " +
+                              "Where the database can't restart a sequence from a query, the first statement computes the value to use for `<result>`. " +
+                              "With several databases configured, the statements of each are preceded by a comment naming it.")
+        String seedSequence;
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.hibernate.table;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreType;
+import lombok.Value;
+import org.openrewrite.Column;
+import org.openrewrite.DataTable;
+import org.openrewrite.Recipe;
+
+@JsonIgnoreType
+public class LazyAssociationsInLoops extends DataTable<LazyAssociationsInLoops.Row> {
+
+    public LazyAssociationsInLoops(Recipe recipe) {
+        super(recipe,
+                "Lazy associations accessed in loops",
+                "Lazy associations accessed for every result of a query, which costs one select per result.");
+    }
+
+    @Value
+    public static class Row {
+        @Column(displayName = "Source path",
+                description = "The path of the source file containing the loop.")
+        String sourcePath;
+
+        @Column(displayName = "Query",
+                description = "The call returning the query results the loop iterates over.")
+        String query;
+
+        @Column(displayName = "Entity",
+                description = "The fully qualified name of the entity returned by the query.")
+        String entity;
+
+        @Column(displayName = "Association",
+                description = "The lazy association accessed in the loop, with its mapping annotation.")
+        String association;
+
+        @Column(displayName = "Suggestion",
+                description = "How to load the association together with the query results.")
+        String suggestion;
+    }
+}
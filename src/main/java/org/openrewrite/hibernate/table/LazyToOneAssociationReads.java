@@ -0,0 +1,55 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.hibernate.table;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreType;
+import lombok.Value;
+import org.openrewrite.Column;
+import org.openrewrite.DataTable;
+import org.openrewrite.Recipe;
+
+@JsonIgnoreType
+public class LazyToOneAssociationReads extends DataTable<LazyToOneAssociationReads.Row> {
+
+    public LazyToOneAssociationReads(Recipe recipe) {
+        super(recipe,
+                "Reads of to-one associations made lazy",
+                "Code reading a to-one association that used to be fetched eagerly, outside a method whose query fetches it.");
+    }
+
+    @Value
+    public static class Row {
+        @Column(displayName = "Source path",
+                description = "The path of the source file reading the association.")
+        String sourcePath;
+
+        @Column(displayName = "Method",
+                description = "The method reading the association.")
+        String method;
+
+        @Column(displayName = "Entity",
+                description = "The fully qualified name of the entity declaring the association.")
+        String entity;
+
+        @Column(displayName = "Association",
+                description = "The association that is now fetched lazily.")
+        String association;
+
+        @Column(displayName = "Call site",
+                description = "The call reading the association.")
+        String callSite;
+    }
+}
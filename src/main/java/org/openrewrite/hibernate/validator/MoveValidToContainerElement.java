@@ -22,10 +22,10 @@ import org.openrewrite.Preconditions;
 import org.openrewrite.Recipe;
 import org.openrewrite.Tree;
 import org.openrewrite.TreeVisitor;
+import org.openrewrite.hibernate.DeferredAnnotationRemoval;
 import org.openrewrite.internal.ListUtils;
 import org.openrewrite.java.AnnotationMatcher;
 import org.openrewrite.java.JavaIsoVisitor;
-import org.openrewrite.java.RemoveAnnotationVisitor;
 import org.openrewrite.java.search.UsesType;
 import org.openrewrite.java.tree.Expression;
 import org.openrewrite.java.tree.J;
@@ -76,7 +76,7 @@ public class MoveValidToContainerElement extends Recipe {
                 if (annotatedElement == null) {
                     return vd;
                 }
-                doAfterVisit(new RemoveAnnotationVisitor(sameAnnotation(valid)));
+                DeferredAnnotationRemoval.remove(getCursor(), '@' + VALID, valid, this::doAfterVisit);
                 return vd.withTypeExpression(annotatedElement);
             }
 
@@ -96,7 +96,7 @@ public class MoveValidToContainerElement extends Recipe {
                 if (annotatedElement == null) {
                     return m;
                 }
-                doAfterVisit(new RemoveAnnotationVisitor(sameAnnotation(valid)));
+                DeferredAnnotationRemoval.remove(getCursor(), '@' + VALID, valid, this::doAfterVisit);
                 return m.withReturnTypeExpression(annotatedElement);
             }
         });
@@ -111,19 +111,6 @@ public class MoveValidToContainerElement extends Recipe {
         return null;
     }
 
-    /**
-     * Matches only the one annotation instance that was found, so that {@link RemoveAnnotationVisitor} removes the
-     * container level {@code @Valid} without also stripping any {@code @Valid} already present on a type argument.
-     */
-    private static AnnotationMatcher sameAnnotation(J.Annotation annotation) {
-        return new AnnotationMatcher('@' + VALID) {
-            @Override
-            public boolean matches(J.Annotation anno) {
-                return annotation.equals(anno);
-            }
-        };
-    }
-
     /**
      * Drops {@code valid} from the annotations, letting whichever annotation followed it take over its prefix so that
      * the declaration keeps its original indentation and line breaks.
@@ -0,0 +1,208 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.hibernate;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.properties.Assertions.properties;
+import static org.openrewrite.xml.Assertions.xml;
+import static org.openrewrite.yaml.Assertions.yaml;
+
+class ConfigureJdbcBatchingTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new ConfigureJdbcBatching(null));
+    }
+
+    @DocumentExample
+    @Test
+    void addsMissingSettingsToYaml() {
+        rewriteRun(
+          yaml(
+            """
+            spring:
+              jpa:
+                database-platform: org.hibernate.dialect.MySQLDialect
+                properties:
+                  hibernate:
+                    order_inserts: true
+            """,
+            """
+            spring:
+              jpa:
+                database-platform: org.hibernate.dialect.MySQLDialect
+                properties:
+                  hibernate:
+                    order_inserts: true
+                    jdbc:
+                      batch_size: 50
+                      batch_versioned_data: true
+                    order_updates: true
+            """,
+            s -> s.path("src/main/resources/application.yml")
+          )
+        );
+    }
+
+    @Test
+    void noChangeWhenNestedYamlIsConfigured() {
+        rewriteRun(
+          yaml(
+            """
+            spring:
+              jpa:
+                properties:
+                  hibernate:
+                    jdbc:
+                      batch_size: 20
+                      batch_versioned_data: true
+                    order_inserts: true
+                    order_updates: true
+            """,
+            s -> s.path("src/main/resources/application.yml")
+          )
+        );
+    }
+
+    @Test
+    void followsDottedKeysInYaml() {
+        rewriteRun(
+          yaml(
+            """
+            spring:
+              jpa:
+                properties:
+                  hibernate.dialect: org.hibernate.dialect.MySQLDialect
+            """,
+            """
+            spring:
+              jpa:
+                properties:
+                  hibernate.dialect: org.hibernate.dialect.MySQLDialect
+                  hibernate.jdbc.batch_size: 50
+                  hibernate.order_inserts: true
+                  hibernate.order_updates: true
+                  hibernate.jdbc.batch_versioned_data: true
+            """,
+            s -> s.path("src/main/resources/application.yml")
+          )
+        );
+    }
+
+    @Test
+    void addsMissingSettingsToSpringProperties() {
+        rewriteRun(
+          spec -> spec.recipe(new ConfigureJdbcBatching(25)),
+          properties(
+            """
+            spring.jpa.database-platform=org.hibernate.dialect.MySQLDialect
+            spring.jpa.properties.hibernate.order_inserts=true
+            """,
+            """
+            spring.jpa.database-platform=org.hibernate.dialect.MySQLDialect
+            spring.jpa.properties.hibernate.order_inserts=true
+            spring.jpa.properties.hibernate.jdbc.batch_size=25
+            spring.jpa.properties.hibernate.order_updates=true
+            spring.jpa.properties.hibernate.jdbc.batch_versioned_data=true
+            """,
+            s -> s.path("src/main/resources/application.properties")
+          )
+        );
+    }
+
+    @Test
+    void addsMissingSettingsToPersistenceXml() {
+        rewriteRun(
+          xml(
+            """
+              <persistence xmlns="https://jakarta.ee/xml/ns/persistence" version="3.0">
+                  <persistence-unit name="default">
+                      <properties>
+                          <property name="hibernate.dialect" value="org.hibernate.dialect.OracleDialect"/>
+                          <property name="hibernate.jdbc.batch_size" value="20"/>
+                      </properties>
+                  </persistence-unit>
+              </persistence>
+              """,
+            """
+              <persistence xmlns="https://jakarta.ee/xml/ns/persistence" version="3.0">
+                  <persistence-unit name="default">
+                      <properties>
+                          <property name="hibernate.dialect" value="org.hibernate.dialect.OracleDialect"/>
+                          <property name="hibernate.jdbc.batch_size" value="20"/>
+                          <property name="hibernate.order_inserts" value="true"/>
+                          <property name="hibernate.order_updates" value="true"/>
+                          <property name="hibernate.jdbc.batch_versioned_data" value="true"/>
+                      </properties>
+                  </persistence-unit>
+              </persistence>
+              """,
+            s -> s.path("src/main/resources/META-INF/persistence.xml")
+          )
+        );
+    }
+
+    @Test
+    void addsMissingSettingsToHibernateCfgXml() {
+        rewriteRun(
+          xml(
+            """
+              <hibernate-configuration>
+                  <session-factory>
+                      <property name="dialect">org.hibernate.dialect.SQLServerDialect</property>
+                      <property name="order_inserts">true</property>
+                  </session-factory>
+              </hibernate-configuration>
+              """,
+            """
+              <hibernate-configuration>
+                  <session-factory>
+                      <property name="dialect">org.hibernate.dialect.SQLServerDialect</property>
+                      <property name="order_inserts">true</property>
+                      <property name="hibernate.jdbc.batch_size">50</property>
+                      <property name="hibernate.order_updates">true</property>
+                      <property name="hibernate.jdbc.batch_versioned_data">true</property>
+                  </session-factory>
+              </hibernate-configuration>
+              """,
+            s -> s.path("src/main/resources/hibernate.cfg.xml")
+          )
+        );
+    }
+
+    @Test
+    void noChangeWithoutHibernateConfiguration() {
+        rewriteRun(
+          properties(
+            """
+            server.port=8080
+            """,
+            s -> s.path("src/main/resources/application.properties")
+          ),
+          yaml(
+            """
+            server:
+              port: 8080
+            """,
+            s -> s.path("src/main/resources/application.yml")
+          )
+        );
+    }
+}
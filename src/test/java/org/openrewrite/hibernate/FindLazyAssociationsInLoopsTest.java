@@ -0,0 +1,267 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.hibernate;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.hibernate.table.LazyAssociationsInLoops;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+import org.openrewrite.test.SourceSpecs;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.openrewrite.java.Assertions.java;
+
+class FindLazyAssociationsInLoopsTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new FindLazyAssociationsInLoops())
+          .parser(JavaParser.fromJavaVersion()
+            .classpathFromResources(new InMemoryExecutionContext(), "jakarta.persistence-api")
+          );
+    }
+
+    //language=java
+    private static final SourceSpecs CUSTOMER = java(
+      """
+              import jakarta.persistence.*;
+              import java.util.List;
+
+              @Entity
+              public class Customer {
+                  @Id
+                  private Long id;
+                  private String name;
+                  @OneToMany(mappedBy = "customer")
+                  private List<Order> orders;
+                  @OneToMany(mappedBy = "customer", fetch = FetchType.EAGER)
+                  private List<Address> addresses;
+
+                  public Long getId() { return id; }
+                  public String getName() { return name; }
+                  public List<Order> getOrders() { return orders; }
+                  public List<Address> getAddresses() { return addresses; }
+              }
+              """
+    );
+
+    //language=java
+    private static final SourceSpecs ADDRESS = java(
+      """
+              import jakarta.persistence.*;
+
+              @Entity
+              public class Address {
+                  @Id
+                  private Long id;
+                  @ManyToOne
+                  private Customer customer;
+              }
+              """
+    );
+
+    //language=java
+    private static final SourceSpecs ORDER = java(
+      """
+              import jakarta.persistence.*;
+
+              @Entity
+              public class Order {
+                  @Id
+                  private Long id;
+                  @ManyToOne(fetch = FetchType.LAZY)
+                  private Customer customer;
+
+                  public Customer getCustomer() { return customer; }
+              }
+              """
+    );
+
+    @DocumentExample
+    @Test
+    void forLoopOverQueryResults() {
+        rewriteRun(
+          spec -> spec.dataTable(LazyAssociationsInLoops.Row.class, rows -> assertThat(rows)
+            .singleElement()
+            .satisfies(row -> {
+                assertThat(row.getEntity()).isEqualTo("Customer");
+                assertThat(row.getAssociation()).isEqualTo("@OneToMany orders");
+                assertThat(row.getSuggestion()).contains("`left join fetch c.orders`");
+            })),
+          CUSTOMER, ADDRESS, ORDER,
+          //language=java
+          java(
+            """
+              import jakarta.persistence.EntityManager;
+              import java.util.List;
+
+              class Report {
+                  void print(EntityManager em) {
+                      List<Customer> customers = em.createQuery("select c from Customer c", Customer.class).getResultList();
+                      for (Customer customer : customers) {
+                          System.out.println(customer.getName() + customer.getOrders().size() + customer.getAddresses().size());
+                      }
+                  }
+              }
+              """,
+            """
+              import jakarta.persistence.EntityManager;
+              import java.util.List;
+
+              class Report {
+                  void print(EntityManager em) {
+                      List<Customer> customers = em.createQuery("select c from Customer c", Customer.class).getResultList();
+                      for (Customer customer : customers) {
+                          System.out.println(customer.getName() + /*~~(Lazy association loaded once per query result)~~>*/customer.getOrders().size() + customer.getAddresses().size());
+                      }
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void streamOverQueryResults() {
+        rewriteRun(
+          CUSTOMER, ADDRESS, ORDER,
+          //language=java
+          java(
+            """
+              import jakarta.persistence.EntityManager;
+              import java.util.List;
+              import java.util.stream.Collectors;
+
+              class Report {
+                  List<String> names(EntityManager em) {
+                      return em.createQuery("from Order o", Order.class).getResultStream()
+                        .filter(o -> o.getCustomer().getId() > 0)
+                        .map(o -> o.getCustomer().getName())
+                        .collect(Collectors.toList());
+                  }
+              }
+              """,
+            """
+              import jakarta.persistence.EntityManager;
+              import java.util.List;
+              import java.util.stream.Collectors;
+
+              class Report {
+                  List<String> names(EntityManager em) {
+                      return em.createQuery("from Order o", Order.class).getResultStream()
+                        .filter(o -> o.getCustomer().getId() > 0)
+                        .map(o -> /*~~(Lazy association loaded once per query result)~~>*/o.getCustomer().getName())
+                        .collect(Collectors.toList());
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void loopOverOtherCollection() {
+        rewriteRun(
+          CUSTOMER, ADDRESS, ORDER,
+          //language=java
+          java(
+            """
+              import java.util.List;
+
+              class Report {
+                  void print(List<Customer> customers) {
+                      for (Customer customer : customers) {
+                          System.out.println(customer.getOrders().size());
+                      }
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void loopOverHibernateQueryResults() {
+        rewriteRun(
+          spec -> spec.parser(JavaParser.fromJavaVersion()
+            .classpathFromResources(new InMemoryExecutionContext(), "jakarta.persistence-api", "hibernate-core-6")),
+          CUSTOMER, ADDRESS, ORDER,
+          //language=java
+          java(
+            """
+              import org.hibernate.Session;
+
+              class Report {
+                  void print(Session session) {
+                      for (Customer customer : session.createQuery("from Customer c", Customer.class).list()) {
+                          System.out.println(customer.getOrders().size());
+                      }
+                  }
+              }
+              """,
+            """
+              import org.hibernate.Session;
+
+              class Report {
+                  void print(Session session) {
+                      for (Customer customer : session.createQuery("from Customer c", Customer.class).list()) {
+                          System.out.println(/*~~(Lazy association loaded once per query result)~~>*/customer.getOrders().size());
+                      }
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void loopOverOtherHibernateList() {
+        rewriteRun(
+          CUSTOMER, ADDRESS, ORDER,
+          //language=java
+          java(
+            """
+              package org.hibernate.example;
+
+              import java.util.List;
+
+              public class Cache<T> {
+                  public List<T> list() {
+                      return null;
+                  }
+              }
+              """
+          ),
+          //language=java
+          java(
+            """
+              import org.hibernate.example.Cache;
+
+              class Report {
+                  void print(Cache<Customer> cache) {
+                      for (Customer customer : cache.list()) {
+                          System.out.println(customer.getOrders().size());
+                      }
+                  }
+              }
+              """
+          )
+        );
+    }
+}
@@ -0,0 +1,201 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.hibernate;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RewriteTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.openrewrite.java.Assertions.java;
+import static org.openrewrite.java.Assertions.mavenProject;
+import static org.openrewrite.java.Assertions.srcMainJava;
+import static org.openrewrite.maven.Assertions.pomXml;
+
+class HasHibernateVersionBeforeTest implements RewriteTest {
+
+    //language=xml
+    private static final String HIBERNATE_64_POM = """
+      <project>
+        <groupId>org.example</groupId>
+        <artifactId>a</artifactId>
+        <version>1.0.0</version>
+        <dependencies>
+          <dependency>
+            <groupId>org.hibernate.orm</groupId>
+            <artifactId>hibernate-core</artifactId>
+            <version>6.4.4.Final</version>
+          </dependency>
+        </dependencies>
+      </project>
+      """;
+
+    @DocumentExample
+    @Test
+    void marksProjectOnOlderVersion() {
+        rewriteRun(
+          spec -> spec.recipe(new HasHibernateVersionBefore("6.5")),
+          pomXml(HIBERNATE_64_POM, "<!--~~>-->" + HIBERNATE_64_POM)
+        );
+    }
+
+    @Test
+    void skipsProjectOnSameVersion() {
+        rewriteRun(
+          spec -> spec.recipe(new HasHibernateVersionBefore("6.4")),
+          pomXml(HIBERNATE_64_POM)
+        );
+    }
+
+    @Test
+    void marksSourcesOfUnknownVersion() {
+        rewriteRun(
+          spec -> spec.recipe(new HasHibernateVersionBefore("6.0")),
+          //language=java
+          java(
+            "class A {}",
+            "/*~~>*/class A {}"
+          )
+        );
+    }
+
+    @Test
+    void skipsSourcesOfProjectOnNewerVersion() {
+        rewriteRun(
+          spec -> spec.recipe(new HasHibernateVersionBefore("6.0")),
+          mavenProject("a",
+            pomXml(HIBERNATE_64_POM),
+            srcMainJava(
+              //language=java
+              java("class A {}")
+            )
+          )
+        );
+    }
+
+    @Test
+    void marksSourcesOfProjectOnOlderVersion() {
+        rewriteRun(
+          spec -> spec.recipe(new HasHibernateVersionBefore("6.5")),
+          mavenProject("a",
+            pomXml(HIBERNATE_64_POM, "<!--~~>-->" + HIBERNATE_64_POM),
+            srcMainJava(
+              //language=java
+              java(
+                "class A {}",
+                "/*~~>*/class A {}"
+              )
+            )
+          )
+        );
+    }
+
+    @Test
+    void migrationSkipsStepsOfVersionsTheProjectHasReached() {
+        rewriteRun(
+          spec -> spec.recipeFromResources("org.openrewrite.hibernate.MigrateToHibernate71")
+            .parser(JavaParser.fromJavaVersion()
+              .classpathFromResources(new InMemoryExecutionContext(), "hibernate-core-6.5.+")),
+          mavenProject("a",
+            pomXml(HIBERNATE_64_POM, spec -> spec.after(after -> assertThat(after)
+              .containsPattern("<version>7\\.1\\.\\d+\\.Final</version>")
+              .actual())),
+            srcMainJava(
+              //language=java
+              java(
+                """
+                  import org.hibernate.annotations.ResultCheckStyle;
+                  import org.hibernate.annotations.SQLInsert;
+
+                  @SQLInsert(check = ResultCheckStyle.COUNT, sql = "")
+                  class A {
+                      // MigrateDialect belongs to the 6.2 steps, which a project on 6.4 has already taken
+                      String dialect = "org.hibernate.dialect.MySQL8Dialect";
+                  }
+                  """,
+                """
+                  import org.hibernate.annotations.SQLInsert;
+                  import org.hibernate.jdbc.Expectation;
+
+                  @SQLInsert(verify = Expectation.RowCount.class, sql = "")
+                  class A {
+                      // MigrateDialect belongs to the 6.2 steps, which a project on 6.4 has already taken
+                      String dialect = "org.hibernate.dialect.MySQL8Dialect";
+                  }
+                  """
+              )
+            )
+          )
+        );
+    }
+
+    @Test
+    void migrationAppliesEveryStepWhileUpgradingTheDependency() {
+        rewriteRun(
+          spec -> spec.recipeFromResources("org.openrewrite.hibernate.MigrateToHibernate71")
+            .parser(JavaParser.fromJavaVersion()
+              .classpathFromResources(new InMemoryExecutionContext(), "hibernate-core-5+")),
+          mavenProject("a",
+            //language=xml
+            pomXml(
+              """
+                <project>
+                  <groupId>org.example</groupId>
+                  <artifactId>a</artifactId>
+                  <version>1.0.0</version>
+                  <dependencies>
+                    <dependency>
+                      <groupId>org.hibernate</groupId>
+                      <artifactId>hibernate-core</artifactId>
+                      <version>5.6.15.Final</version>
+                    </dependency>
+                  </dependencies>
+                </project>
+                """,
+              spec -> spec.after(after -> assertThat(after)
+                .contains("<groupId>org.hibernate.orm</groupId>")
+                .containsPattern("<version>7\\.1\\.\\d+\\.Final</version>")
+                .actual())
+            ),
+            srcMainJava(
+              //language=java
+              java(
+                """
+                  import org.hibernate.annotations.ResultCheckStyle;
+                  import org.hibernate.annotations.SQLInsert;
+
+                  @SQLInsert(check = ResultCheckStyle.COUNT, sql = "")
+                  class A {
+                      String dialect = "org.hibernate.dialect.MySQL8Dialect";
+                  }
+                  """,
+                """
+                  import org.hibernate.annotations.SQLInsert;
+                  import org.hibernate.jdbc.Expectation;
+
+                  @SQLInsert(verify = Expectation.RowCount.class, sql = "")
+                  class A {
+                      String dialect = "org.hibernate.dialect.MySQLDialect";
+                  }
+                  """
+              )
+            )
+          )
+        );
+    }
+}
@@ -0,0 +1,450 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.hibernate;
+
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Parser;
+import org.openrewrite.SourceFile;
+import org.openrewrite.gradle.GradleParser;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.maven.MavenParser;
+import org.openrewrite.properties.PropertiesParser;
+import org.openrewrite.yaml.YamlParser;
+
+import java.io.ByteArrayInputStream;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Generates a Hibernate 5 project of configurable size, for benchmarks and for regression tests at scale. The output
+ * only depends on the seed and the configured sizes. Entities mix boolean, temporal and {@code @TypeDef} aliased
+ * {@code @Type} mappings, {@code @LazyCollection}, container level {@code @Valid} and misplaced
+ * {@code @GeneratedValue}, and a third of them inherit a {@code @TypeDef} from a mapped superclass. Every tenth entity
+ * comes with a legacy {@code UserType}, an {@code EmptyInterceptor} subclass and a DAO calling {@code addScalar} with
+ * {@code org.hibernate.type} constants. The project is completed by a dialect in {@code application.properties} and
+ * {@code application.yml}, and a Maven or Gradle build depending on {@code hibernate-core} 5.6.
+ */
+class Hibernate5CodebaseGenerator {
+
+    private static final String[] DIALECTS = {
+      "org.hibernate.dialect.MySQL5Dialect",
+      "org.hibernate.dialect.MySQL57Dialect",
+      "org.hibernate.dialect.MariaDB103Dialect",
+      "org.hibernate.dialect.PostgreSQL95Dialect",
+      "org.hibernate.dialect.Oracle12cDialect",
+      "org.hibernate.dialect.SQLServer2012Dialect"
+    };
+    private static final String[] BOOLEAN_TYPES = {"yes_no", "true_false", "numeric_boolean"};
+    private static final String[] TEMPORAL_TYPES = {"date", "time", "timestamp"};
+    private static final String[] LAZY_COLLECTION_OPTIONS = {"TRUE", "TRUE", "FALSE", "FALSE", "EXTRA"};
+
+    private final long seed;
+    private int entities = 100;
+    private int fieldsPerEntity = 10;
+    private boolean jakarta;
+    private boolean gradle;
+    private boolean build = true;
+    private int entitiesPerSupportClass = 10;
+
+    Hibernate5CodebaseGenerator(long seed) {
+        this.seed = seed;
+    }
+
+    Hibernate5CodebaseGenerator entities(int entities) {
+        this.entities = entities;
+        return this;
+    }
+
+    Hibernate5CodebaseGenerator fieldsPerEntity(int fieldsPerEntity) {
+        this.fieldsPerEntity = fieldsPerEntity;
+        return this;
+    }
+
+    /**
+     * Use {@code jakarta.persistence} instead of {@code javax.persistence}, as a project that already went through the
+     * Jakarta EE migration would, so that the recipes matching on Jakarta annotations find something to do.
+     */
+    Hibernate5CodebaseGenerator jakarta() {
+        this.jakarta = true;
+        return this;
+    }
+
+    Hibernate5CodebaseGenerator gradle() {
+        this.gradle = true;
+        return this;
+    }
+
+    /**
+     * Generate a user type, an interceptor and a DAO for every given number of entities instead of every 10, for
+     * measuring recipes that only match a small fraction of the project.
+     */
+    Hibernate5CodebaseGenerator entitiesPerSupportClass(int entitiesPerSupportClass) {
+        this.entitiesPerSupportClass = entitiesPerSupportClass;
+        return this;
+    }
+
+    /**
+     * Leave out the build file, for measurements that should not depend on resolving dependencies.
+     */
+    Hibernate5CodebaseGenerator withoutBuild() {
+        this.build = false;
+        return this;
+    }
+
+    /**
+     * @return the text of every file of the project, keyed by its path relative to the project root.
+     */
+    Map<Path, String> generate() {
+        Random random = new Random(seed);
+        Map<Path, String> files = new LinkedHashMap<>();
+        int userTypes = Math.max(1, (entities + entitiesPerSupportClass - 1) / entitiesPerSupportClass);
+
+        String dialect = DIALECTS[random.nextInt(DIALECTS.length)];
+        if (build) {
+            files.put(gradle ? Paths.get("build.gradle") : Paths.get("pom.xml"), gradle ? gradleBuild() : pom());
+        }
+        files.put(Paths.get("src/main/resources/application.properties"),
+          "spring.jpa.properties.hibernate.dialect=" + dialect + "\n");
+        files.put(Paths.get("src/main/resources/application.yml"),
+          "spring:\n  jpa:\n    properties:\n      hibernate:\n        dialect: " + dialect + "\n");
+
+        files.put(javaPath("com.example.entity", "BaseEntity"), baseEntity());
+        for (int i = 0; i < entities; i++) {
+            files.put(javaPath("com.example.entity", "Entity" + i), entity(random, i, userTypes));
+            if (i % entitiesPerSupportClass == 0) {
+                int supportClass = i / entitiesPerSupportClass;
+                files.put(javaPath("com.example.type", "MoneyType" + supportClass), userType(supportClass));
+                files.put(javaPath("com.example.interceptor", "AuditInterceptor" + supportClass), interceptor(supportClass));
+                files.put(javaPath("com.example.dao", "Entity" + i + "Dao"), dao(i));
+            }
+        }
+        return files;
+    }
+
+    /**
+     * Parses the generated project, with the Java sources typed against {@code hibernate-core} 5.6. Parsing the build
+     * file resolves its dependencies.
+     */
+    List<SourceFile> parse(ExecutionContext ctx) {
+        List<Parser.Input> java = new ArrayList<>();
+        List<Parser.Input> properties = new ArrayList<>();
+        List<Parser.Input> yaml = new ArrayList<>();
+        List<Parser.Input> buildFiles = new ArrayList<>();
+        for (Map.Entry<Path, String> file : generate().entrySet()) {
+            byte[] bytes = file.getValue().getBytes(UTF_8);
+            Parser.Input input = new Parser.Input(file.getKey(), () -> new ByteArrayInputStream(bytes));
+            String name = file.getKey().getFileName().toString();
+            if (name.endsWith(".java")) {
+                java.add(input);
+            } else if (name.endsWith(".properties")) {
+                properties.add(input);
+            } else if (name.endsWith(".yml")) {
+                yaml.add(input);
+            } else {
+                buildFiles.add(input);
+            }
+        }
+
+        List<Path> classpath = new ArrayList<>(JavaParser.dependenciesFromResources(ctx,
+          "hibernate-core-5+", "jakarta.persistence-api", "jakarta.validation-api"));
+        if (!jakarta) {
+            classpath.addAll(JavaParser.dependenciesFromClasspath("javax.persistence-api"));
+        }
+
+        List<SourceFile> sourceFiles = new ArrayList<>();
+        sourceFiles.addAll((gradle ? GradleParser.builder().build() : MavenParser.builder().build())
+          .parseInputs(buildFiles, null, ctx).collect(toList()));
+        sourceFiles.addAll(new PropertiesParser().parseInputs(properties, null, ctx).collect(toList()));
+        sourceFiles.addAll(new YamlParser().parseInputs(yaml, null, ctx).collect(toList()));
+        sourceFiles.addAll(JavaParser.fromJavaVersion().classpath(classpath).build()
+          .parseInputs(java, null, ctx).collect(toList()));
+        return sourceFiles;
+    }
+
+    private String persistence() {
+        return jakarta ? "jakarta.persistence" : "javax.persistence";
+    }
+
+    private String baseEntity() {
+        return """
+          package com.example.entity;
+
+          import %1$s.GeneratedValue;
+          import %1$s.Id;
+          import %1$s.MappedSuperclass;
+          import com.example.type.MoneyType0;
+          import org.hibernate.annotations.TypeDef;
+
+          @MappedSuperclass
+          @TypeDef(name = "money", typeClass = MoneyType0.class)
+          public abstract class BaseEntity {
+              @Id
+              @GeneratedValue
+              private Long id;
+          }
+          """.formatted(persistence());
+    }
+
+    private String entity(Random random, int index, int userTypes) {
+        Set<String> imports = new TreeSet<>();
+        imports.add(persistence() + ".Entity");
+        boolean inherits = random.nextInt(3) == 0;
+        String localAlias = "money" + index % userTypes;
+
+        StringBuilder fields = new StringBuilder();
+        if (!inherits) {
+            imports.add(persistence() + ".GeneratedValue");
+            imports.add(persistence() + ".Id");
+            fields.append("    @Id\n    @GeneratedValue\n    private Long id;\n");
+        }
+        boolean usesLocalAlias = false;
+        for (int f = 0; f < fieldsPerEntity; f++) {
+            fields.append('\n');
+            switch (random.nextInt(8)) {
+                case 0:
+                    imports.add("org.hibernate.annotations.Type");
+                    fields.append("    @Type(type = \"").append(pick(random, BOOLEAN_TYPES)).append("\")\n")
+                      .append("    private Boolean flag").append(f).append(";\n");
+                    break;
+                case 1:
+                    imports.add("org.hibernate.annotations.Type");
+                    imports.add("java.math.BigDecimal");
+                    String alias = inherits && random.nextBoolean() ? "money" : localAlias;
+                    usesLocalAlias |= alias.equals(localAlias);
+                    fields.append("    @Type(type = \"").append(alias).append("\")\n")
+                      .append("    private BigDecimal amount").append(f).append(";\n");
+                    break;
+                case 2:
+                    imports.add("org.hibernate.annotations.Type");
+                    imports.add("java.util.Date");
+                    fields.append("    @Type(type = \"").append(pick(random, TEMPORAL_TYPES)).append("\")\n")
+                      .append("    private Date moment").append(f).append(";\n");
+                    break;
+                case 3:
+                    imports.add(persistence() + ".OneToMany");
+                    imports.add("org.hibernate.annotations.LazyCollection");
+                    imports.add("org.hibernate.annotations.LazyCollectionOption");
+                    imports.add("java.util.List");
+                    fields.append("    @OneToMany\n")
+                      .append("    @LazyCollection(LazyCollectionOption.").append(pick(random, LAZY_COLLECTION_OPTIONS)).append(")\n")
+                      .append("    private List<Entity").append(index).append("> children").append(f).append(";\n");
+                    break;
+                case 4:
+                    imports.add(persistence() + ".OneToMany");
+                    imports.add("jakarta.validation.Valid");
+                    imports.add("java.util.List");
+                    fields.append("    @Valid\n    @OneToMany\n")
+                      .append("    private List<Entity").append(index).append("> validated").append(f).append(";\n");
+                    break;
+                case 5:
+                    imports.add(persistence() + ".GeneratedValue");
+                    fields.append("    @GeneratedValue\n    private Long sequence").append(f).append(";\n");
+                    break;
+                default:
+                    imports.add(persistence() + ".Column");
+                    fields.append("    @Column(name = \"column_").append(f).append("\")\n")
+                      .append("    private String column").append(f).append(";\n");
+            }
+        }
+
+        StringBuilder entity = new StringBuilder("package com.example.entity;\n\n");
+        if (usesLocalAlias) {
+            imports.add("com.example.type.MoneyType" + index % userTypes);
+            imports.add("org.hibernate.annotations.TypeDef");
+        }
+        for (String type : imports) {
+            entity.append("import ").append(type).append(";\n");
+        }
+        entity.append("\n@Entity\n");
+        if (usesLocalAlias) {
+            entity.append("@TypeDef(name = \"").append(localAlias).append("\", typeClass = MoneyType")
+              .append(index % userTypes).append(".class)\n");
+        }
+        entity.append("public class Entity").append(index).append(inherits ? " extends BaseEntity" : "").append(" {\n");
+        return entity.append(fields).append("}\n").toString();
+    }
+
+    private static String userType(int index) {
+        return """
+          package com.example.type;
+
+          import org.hibernate.engine.spi.SharedSessionContractImplementor;
+          import org.hibernate.usertype.UserType;
+
+          import java.io.Serializable;
+          import java.math.BigDecimal;
+          import java.sql.PreparedStatement;
+          import java.sql.ResultSet;
+          import java.sql.SQLException;
+          import java.sql.Types;
+          import java.util.Objects;
+
+          public class MoneyType%d implements UserType {
+              @Override
+              public int[] sqlTypes() {
+                  return new int[]{Types.DECIMAL};
+              }
+
+              @Override
+              public Class<?> returnedClass() {
+                  return BigDecimal.class;
+              }
+
+              @Override
+              public boolean equals(Object x, Object y) {
+                  return Objects.equals(x, y);
+              }
+
+              @Override
+              public int hashCode(Object x) {
+                  return Objects.hashCode(x);
+              }
+
+              @Override
+              public Object nullSafeGet(ResultSet rs, String[] names, SharedSessionContractImplementor session, Object owner) throws SQLException {
+                  return rs.getBigDecimal(names[0]);
+              }
+
+              @Override
+              public void nullSafeSet(PreparedStatement st, Object value, int index, SharedSessionContractImplementor session) throws SQLException {
+                  st.setObject(index, value, Types.DECIMAL);
+              }
+
+              @Override
+              public Object deepCopy(Object value) {
+                  return value;
+              }
+
+              @Override
+              public boolean isMutable() {
+                  return false;
+              }
+
+              @Override
+              public Serializable disassemble(Object value) {
+                  return (Serializable) value;
+              }
+
+              @Override
+              public Object assemble(Serializable cached, Object owner) {
+                  return cached;
+              }
+
+              @Override
+              public Object replace(Object original, Object target, Object owner) {
+                  return original;
+              }
+          }
+          """.formatted(index);
+    }
+
+    private static String interceptor(int index) {
+        return """
+          package com.example.interceptor;
+
+          import org.hibernate.EmptyInterceptor;
+
+          public class AuditInterceptor%d extends EmptyInterceptor {
+              @Override
+              public String onPrepareStatement(String sql) {
+                  return sql;
+              }
+          }
+          """.formatted(index);
+    }
+
+    private static String dao(int index) {
+        return """
+          package com.example.dao;
+
+          import com.example.entity.Entity%1$d;
+          import org.hibernate.Session;
+          import org.hibernate.type.LongType;
+          import org.hibernate.type.StringType;
+
+          import java.util.List;
+
+          public class Entity%1$dDao {
+              private final Session session;
+
+              public Entity%1$dDao(Session session) {
+                  this.session = session;
+              }
+
+              public List<?> findColumns() {
+                  return session.createNativeQuery("select id, column_0 from entity_%1$d")
+                          .addScalar("id", LongType.INSTANCE)
+                          .addScalar("column_0", StringType.INSTANCE)
+                          .list();
+              }
+
+              public void save(Entity%1$d entity) {
+                  session.save(entity);
+              }
+
+              public Entity%1$d load(Long id) {
+                  return session.load(Entity%1$d.class, id);
+              }
+          }
+          """.formatted(index);
+    }
+
+    private String pom() {
+        return """
+          <project>
+            <modelVersion>4.0.0</modelVersion>
+            <groupId>com.example</groupId>
+            <artifactId>synthetic-%d</artifactId>
+            <version>1.0.0</version>
+            <dependencies>
+              <dependency>
+                <groupId>org.hibernate</groupId>
+                <artifactId>hibernate-core</artifactId>
+                <version>5.6.15.Final</version>
+              </dependency>
+            </dependencies>
+          </project>
+          """.formatted(seed);
+    }
+
+    private static String gradleBuild() {
+        return """
+          plugins {
+              id 'java'
+          }
+
+          repositories {
+              mavenCentral()
+          }
+
+          dependencies {
+              implementation 'org.hibernate:hibernate-core:5.6.15.Final'
+          }
+          """;
+    }
+
+    private static String pick(Random random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private static Path javaPath(String packageName, String className) {
+        return Paths.get("src/main/java", packageName.replace('.', '/'), className + ".java");
+    }
+}
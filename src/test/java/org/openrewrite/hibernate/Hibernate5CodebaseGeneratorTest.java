@@ -0,0 +1,106 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.hibernate;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.RecipeRun;
+import org.openrewrite.Result;
+import org.openrewrite.SourceFile;
+import org.openrewrite.internal.InMemoryLargeSourceSet;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.tree.ParseError;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class Hibernate5CodebaseGeneratorTest {
+
+    @Test
+    void sameSeedGeneratesSameProject() {
+        assertThat(new Hibernate5CodebaseGenerator(7).entities(50).generate())
+          .isEqualTo(new Hibernate5CodebaseGenerator(7).entities(50).generate())
+          .isNotEqualTo(new Hibernate5CodebaseGenerator(8).entities(50).generate());
+    }
+
+    @Test
+    void generatedProjectParses() {
+        List<Throwable> errors = new ArrayList<>();
+        List<SourceFile> sourceFiles = new Hibernate5CodebaseGenerator(7)
+          .entities(50)
+          .withoutBuild()
+          .parse(new InMemoryExecutionContext(errors::add));
+
+        assertThat(errors).isEmpty();
+        assertThat(sourceFiles).hasSize(2 + 1 + 50 + 3 * 5);
+        assertThat(sourceFiles).noneMatch(ParseError.class::isInstance);
+    }
+
+    @Test
+    void sparseSupportClasses() {
+        Map<Path, String> files = new Hibernate5CodebaseGenerator(7)
+          .entities(1000)
+          .entitiesPerSupportClass(200)
+          .withoutBuild()
+          .generate();
+
+        assertThat(files).hasSize(2 + 1 + 1000 + 3 * 5);
+        assertThat(files.keySet())
+          .filteredOn(path -> path.getFileName().toString().startsWith("MoneyType"))
+          .hasSize(5);
+    }
+
+    @Test
+    void migratesEveryTypeMappingOfGeneratedProject() {
+        List<Throwable> errors = new ArrayList<>();
+        ExecutionContext ctx = new InMemoryExecutionContext(errors::add);
+        List<SourceFile> sourceFiles = new Hibernate5CodebaseGenerator(7)
+          .entities(200)
+          .fieldsPerEntity(20)
+          .withoutBuild()
+          .parse(ctx);
+
+        RecipeRun run = new MigrateTypeAnnotations().run(new InMemoryLargeSourceSet(sourceFiles), ctx);
+
+        assertThat(errors).isEmpty();
+        List<Result> results = run.getChangeset().getAllResults();
+        assertThat(results).isNotEmpty();
+        Map<SourceFile, SourceFile> after = new IdentityHashMap<>();
+        for (Result result : results) {
+            assertThat(result.getBefore()).isNotNull();
+            assertThat(result.getAfter()).isNotNull();
+            after.put(result.getBefore(), result.getAfter());
+        }
+        // Unchanged files count as well, a type definition nobody uses must not survive either
+        for (SourceFile sourceFile : sourceFiles) {
+            SourceFile migrated = after.getOrDefault(sourceFile, sourceFile);
+            if (migrated instanceof J.CompilationUnit) {
+                assertThat(migrated.printAll())
+                  .as(migrated.getSourcePath().toString())
+                  .doesNotContain("@Type(type")
+                  .doesNotContain("@TypeDef")
+                  .doesNotContain("org.hibernate.annotations.TypeDef")
+                  .doesNotContain("\"money");
+            }
+        }
+    }
+}
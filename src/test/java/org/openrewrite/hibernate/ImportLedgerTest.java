@@ -0,0 +1,65 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.hibernate;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.java.tree.J;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ImportLedgerTest {
+
+    @Test
+    void schedulesOneAfterVisitPerCompilationUnit() {
+        ExecutionContext ctx = new InMemoryExecutionContext();
+        List<TreeVisitor<?, ExecutionContext>> scheduled = new ArrayList<>();
+        JavaIsoVisitor<ExecutionContext> visitor = new JavaIsoVisitor<ExecutionContext>() {
+            @Override
+            public J.Annotation visitAnnotation(J.Annotation annotation, ExecutionContext ctx) {
+                ImportLedger.of(getCursor(), v -> {
+                      scheduled.add(v);
+                      doAfterVisit(v);
+                  })
+                  .remove("java.util.Map")
+                  .add("java.util.List", false);
+                return annotation;
+            }
+        };
+
+        J.CompilationUnit manyMatches = (J.CompilationUnit) visitor.visitNonNull(parse(ctx,
+          "import java.util.Map;\nclass A { @Deprecated int a; @Deprecated int b; @Deprecated int c; }"), ctx);
+        assertThat(scheduled).hasSize(1);
+        assertThat(manyMatches.getImports()).extracting(J.Import::getTypeName).containsExactly("java.util.List");
+
+        visitor.visitNonNull(parse(ctx, "class B { @Deprecated int a; }"), ctx);
+        assertThat(scheduled).hasSize(2);
+    }
+
+    private static J.CompilationUnit parse(ExecutionContext ctx, String source) {
+        return (J.CompilationUnit) JavaParser.fromJavaVersion().build()
+          .parse(ctx, source)
+          .findFirst()
+          .orElseThrow(IllegalStateException::new);
+    }
+}
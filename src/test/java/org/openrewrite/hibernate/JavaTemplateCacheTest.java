@@ -0,0 +1,75 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.hibernate;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.java.JavaTemplate;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static java.util.Collections.singletonList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JavaTemplateCacheTest {
+
+    @Test
+    void sameShapeIsBuiltOncePerExecutionContext() {
+        ExecutionContext ctx = new InMemoryExecutionContext();
+        JavaTemplate first = temporal(ctx, "DATE");
+
+        assertThat(temporal(ctx, "DATE")).isSameAs(first);
+        assertThat(temporal(ctx, "TIME")).isNotSameAs(first);
+        assertThat(temporal(new InMemoryExecutionContext(), "DATE")).isNotSameAs(first);
+    }
+
+    @Test
+    void importsAndContextSensitivityArePartOfTheKey() {
+        ExecutionContext ctx = new InMemoryExecutionContext();
+        JavaTemplate first = temporal(ctx, "DATE");
+
+        assertThat(JavaTemplateCache.builder("@Temporal(TemporalType.DATE)")
+          .classpathFromResources("jakarta.persistence-api")
+          .imports("jakarta.persistence.Temporal")
+          .build(ctx)).isNotSameAs(first);
+        assertThat(JavaTemplateCache.builder("@Temporal(TemporalType.DATE)")
+          .classpathFromResources("jakarta.persistence-api")
+          .imports("jakarta.persistence.Temporal", "jakarta.persistence.TemporalType")
+          .contextSensitive()
+          .build(ctx)).isNotSameAs(first);
+    }
+
+    @Test
+    void parserClasspathIsResolvedOncePerArtifactAndExecutionContext() {
+        ExecutionContext ctx = new InMemoryExecutionContext();
+        List<Path> persistence = ParserClasspath.fromResource(ctx, "jakarta.persistence-api");
+
+        assertThat(persistence).isNotEmpty();
+        assertThat(ParserClasspath.fromResource(ctx, "jakarta.persistence-api")).isSameAs(persistence);
+        assertThat(ParserClasspath.fromResources(ctx, singletonList("jakarta.persistence-api"))).containsExactlyElementsOf(persistence);
+        assertThat(ParserClasspath.fromResource(new InMemoryExecutionContext(), "jakarta.persistence-api")).isNotSameAs(persistence);
+    }
+
+    private static JavaTemplate temporal(ExecutionContext ctx, String temporalType) {
+        return JavaTemplateCache.builder("@Temporal(TemporalType." + temporalType + ")")
+          .classpathFromResources("jakarta.persistence-api")
+          .imports("jakarta.persistence.Temporal", "jakarta.persistence.TemporalType")
+          .build(ctx);
+    }
+}
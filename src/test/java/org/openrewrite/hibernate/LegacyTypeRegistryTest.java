@@ -0,0 +1,57 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.hibernate;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LegacyTypeRegistryTest {
+
+    @Test
+    void standardBasicTypesConstant() {
+        assertThat(LegacyTypeRegistry.standardBasicTypesConstant("org.hibernate.type.StringType")).isEqualTo("STRING");
+        assertThat(LegacyTypeRegistry.standardBasicTypesConstant("org.hibernate.type.TrueFalseBooleanType")).isNull();
+        assertThat(LegacyTypeRegistry.standardBasicTypesConstant("org.example.StringType")).isNull();
+    }
+
+    @Test
+    void booleanConverterByAliasOrType() {
+        assertThat(LegacyTypeRegistry.booleanConverter("yes_no")).isEqualTo("YesNoConverter");
+        assertThat(LegacyTypeRegistry.booleanConverter("org.hibernate.type.TrueFalseBooleanType")).isEqualTo("TrueFalseConverter");
+        assertThat(LegacyTypeRegistry.booleanConverter("org.hibernate.type.StringType")).isNull();
+    }
+
+    @Test
+    void nestedTypeNamesAreNormalized() {
+        assertThat(LegacyTypeRegistry.isRemoved("org.hibernate.type.EnumType")).isTrue();
+        assertThat(LegacyTypeRegistry.isRemoved("org$hibernate$type$EnumType")).isTrue();
+        assertThat(LegacyTypeRegistry.isRemoved("org.hibernate.type.StringType")).isFalse();
+    }
+
+    @Test
+    void classTypesAreShared() {
+        assertThat(LegacyTypeRegistry.classType("jakarta.persistence.FetchType"))
+          .isSameAs(LegacyTypeRegistry.classType("jakarta.persistence.FetchType"));
+    }
+
+    @Test
+    void userClassTypesAreNotCached() {
+        assertThat(LegacyTypeRegistry.classType("com.example.MoneyType"))
+          .isNotSameAs(LegacyTypeRegistry.classType("com.example.MoneyType"))
+          .satisfies(type -> assertThat(type.getFullyQualifiedName()).isEqualTo("com.example.MoneyType"));
+    }
+}
@@ -0,0 +1,290 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.hibernate;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.hibernate.table.LazyToOneAssociationReads;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.openrewrite.java.Assertions.java;
+
+class MakeToOneAssociationsLazyTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new MakeToOneAssociationsLazy())
+          .parser(JavaParser.fromJavaVersion()
+            .classpathFromResources(new InMemoryExecutionContext(), "jakarta.persistence-api")
+          );
+    }
+
+    @DocumentExample
+    @Test
+    void addLazyFetchToToOneAssociations() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import jakarta.persistence.*;
+              import java.util.List;
+
+              @Entity
+              public class Order {
+                  @Id
+                  private Long id;
+                  @ManyToOne
+                  private Customer customer;
+                  @OneToOne(optional = false)
+                  private Invoice invoice;
+                  @ManyToOne(fetch = FetchType.EAGER)
+                  private Warehouse warehouse;
+                  @OneToMany
+                  private List<Line> lines;
+              }
+              """,
+            """
+              import jakarta.persistence.*;
+              import java.util.List;
+
+              @Entity
+              public class Order {
+                  @Id
+                  private Long id;
+                  @ManyToOne(fetch = FetchType.LAZY)
+                  private Customer customer;
+                  @OneToOne(optional = false, fetch = FetchType.LAZY)
+                  private Invoice invoice;
+                  @ManyToOne(fetch = FetchType.EAGER)
+                  private Warehouse warehouse;
+                  @OneToMany
+                  private List<Line> lines;
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void addFetchTypeImport() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import jakarta.persistence.Entity;
+              import jakarta.persistence.ManyToOne;
+
+              @Entity
+              public class Order {
+                  @ManyToOne()
+                  private Customer customer;
+              }
+              """,
+            """
+              import jakarta.persistence.Entity;
+              import jakarta.persistence.FetchType;
+              import jakarta.persistence.ManyToOne;
+
+              @Entity
+              public class Order {
+                  @ManyToOne(fetch = FetchType.LAZY)
+                  private Customer customer;
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void addLazyFetchToJavaxAssociations() {
+        rewriteRun(
+          spec -> spec.parser(JavaParser.fromJavaVersion()
+            .classpathFromResources(new InMemoryExecutionContext(), "javax.persistence-api")),
+          //language=java
+          java(
+            """
+              import javax.persistence.Entity;
+              import javax.persistence.ManyToOne;
+
+              @Entity
+              public class Order {
+                  @ManyToOne
+                  private Customer customer;
+              }
+              """,
+            """
+              import javax.persistence.Entity;
+              import javax.persistence.FetchType;
+              import javax.persistence.ManyToOne;
+
+              @Entity
+              public class Order {
+                  @ManyToOne(fetch = FetchType.LAZY)
+                  private Customer customer;
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void inverseOneToOneIsNotChanged() {
+        rewriteRun(
+          spec -> spec.dataTable(LazyToOneAssociationReads.Row.class, rows -> assertThat(rows)
+            .singleElement()
+            .satisfies(row -> assertThat(row.getAssociation()).isEqualTo("@ManyToOne account"))),
+          //language=java
+          java(
+            """
+              import jakarta.persistence.*;
+
+              @Entity
+              public class User {
+                  @Id
+                  private Long id;
+                  @OneToOne(mappedBy = "user")
+                  private Profile profile;
+                  @ManyToOne
+                  private Account account;
+
+                  public Profile getProfile() { return profile; }
+                  public Account getAccount() { return account; }
+              }
+              """,
+            """
+              import jakarta.persistence.*;
+
+              @Entity
+              public class User {
+                  @Id
+                  private Long id;
+                  @OneToOne(mappedBy = "user")
+                  private Profile profile;
+                  @ManyToOne(fetch = FetchType.LAZY)
+                  private Account account;
+
+                  public Profile getProfile() { return profile; }
+                  public Account getAccount() { return account; }
+              }
+              """
+          ),
+          //language=java
+          java(
+            """
+              class UserService {
+                  Object profile(User user) {
+                      return user.getProfile();
+                  }
+
+                  Object account(User user) {
+                      return user.getAccount();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void reportReadsOutsideFetchingQueries() {
+        rewriteRun(
+          spec -> spec.dataTable(LazyToOneAssociationReads.Row.class, rows -> assertThat(rows)
+            .singleElement()
+            .satisfies(row -> {
+                assertThat(row.getMethod()).isEqualTo("OrderService#customerName");
+                assertThat(row.getEntity()).isEqualTo("Order");
+                assertThat(row.getAssociation()).isEqualTo("@ManyToOne customer");
+                assertThat(row.getCallSite()).isEqualTo("order.getCustomer()");
+            })),
+          //language=java
+          java(
+            """
+              import jakarta.persistence.*;
+
+              @Entity
+              public class Customer {
+                  @Id
+                  private Long id;
+                  private String name;
+
+                  public Long getId() { return id; }
+                  public String getName() { return name; }
+              }
+              """
+          ),
+          //language=java
+          java(
+            """
+              import jakarta.persistence.*;
+
+              @Entity
+              public class Order {
+                  @Id
+                  private Long id;
+                  @ManyToOne
+                  private Customer customer;
+
+                  public Customer getCustomer() { return customer; }
+                  public String describe() { return getCustomer().getName(); }
+              }
+              """,
+            """
+              import jakarta.persistence.*;
+
+              @Entity
+              public class Order {
+                  @Id
+                  private Long id;
+                  @ManyToOne(fetch = FetchType.LAZY)
+                  private Customer customer;
+
+                  public Customer getCustomer() { return customer; }
+                  public String describe() { return getCustomer().getName(); }
+              }
+              """
+          ),
+          //language=java
+          java(
+            """
+              import jakarta.persistence.EntityManager;
+
+              class OrderService {
+                  EntityManager em;
+
+                  String customerName(Order order) {
+                      return order.getCustomer().getName();
+                  }
+
+                  Long customerId(Order order) {
+                      return order.getCustomer().getId();
+                  }
+
+                  String fetchedCustomerName(long id) {
+                      Order order = em.createQuery("select o from Order o join fetch o.customer where o.id = :id", Order.class)
+                        .setParameter("id", id)
+                        .getSingleResult();
+                      return order.getCustomer().getName();
+                  }
+              }
+              """
+          )
+        );
+    }
+}
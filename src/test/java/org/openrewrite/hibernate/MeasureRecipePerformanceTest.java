@@ -0,0 +1,92 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.hibernate;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.hibernate.table.HibernateRecipePerformance;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.openrewrite.java.Assertions.java;
+
+class MeasureRecipePerformanceTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new MeasureRecipePerformance("org.openrewrite.hibernate.MigrateBooleanMappings"))
+          .parser(JavaParser.fromJavaVersion()
+            .classpathFromResources(new InMemoryExecutionContext(), "hibernate-core-6+", "jakarta.persistence-api")
+          );
+    }
+
+    @Test
+    void recordsEverySourceFile() {
+        rewriteRun(
+          spec -> spec.dataTable(HibernateRecipePerformance.Row.class, rows -> {
+              assertThat(rows)
+                .allMatch(row -> "org.openrewrite.hibernate.MigrateBooleanMappings".equals(row.getRecipe()))
+                .allMatch(row -> row.getVisitTimeNanos() > 0);
+              assertThat(rows)
+                .filteredOn(row -> "Flagged.java".equals(row.getSourcePath()))
+                .anySatisfy(row -> {
+                    assertThat(row.isPreconditionMatched()).isTrue();
+                    assertThat(row.isChanged()).isTrue();
+                    assertThat(row.getAfterVisits()).isPositive();
+                });
+              assertThat(rows)
+                .filteredOn(row -> "Plain.java".equals(row.getSourcePath()))
+                .isNotEmpty()
+                .allSatisfy(row -> {
+                    assertThat(row.isPreconditionMatched()).isFalse();
+                    assertThat(row.isChanged()).isFalse();
+                    assertThat(row.getTemplateCompilations()).isZero();
+                    assertThat(row.getAfterVisits()).isZero();
+                });
+          }),
+          //language=java
+          java(
+            """
+              import org.hibernate.annotations.Type;
+
+              public class Flagged {
+                  @Type(type = "yes_no")
+                  private boolean flag;
+              }
+              """,
+            """
+              import jakarta.persistence.Convert;
+              import org.hibernate.type.YesNoConverter;
+
+              public class Flagged {
+                  @Convert(converter = YesNoConverter.class)
+                  private boolean flag;
+              }
+              """
+          ),
+          //language=java
+          java(
+            """
+              public class Plain {
+                  private boolean flag;
+              }
+              """
+          )
+        );
+    }
+}
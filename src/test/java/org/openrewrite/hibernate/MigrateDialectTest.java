@@ -17,17 +17,22 @@ package org.openrewrite.hibernate;
 
 import org.junit.jupiter.api.Test;
 import org.openrewrite.DocumentExample;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.java.JavaParser;
 import org.openrewrite.test.RecipeSpec;
 import org.openrewrite.test.RewriteTest;
 
+import static org.openrewrite.java.Assertions.java;
 import static org.openrewrite.properties.Assertions.properties;
+import static org.openrewrite.xml.Assertions.xml;
 import static org.openrewrite.yaml.Assertions.yaml;
 
 class MigrateDialectTest implements RewriteTest {
 
     @Override
     public void defaults(RecipeSpec spec) {
-        spec.recipeFromResources("org.openrewrite.hibernate.MigrateDialect");
+        spec.recipe(new MigrateDialect())
+          .parser(JavaParser.fromJavaVersion().classpathFromResources(new InMemoryExecutionContext(), "hibernate-core-5+"));
     }
 
     @DocumentExample
@@ -111,6 +116,95 @@ class MigrateDialectTest implements RewriteTest {
         );
     }
 
+    @Test
+    void replacesTypeReferencesAndLiteralsInJava() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.hibernate.dialect.Dialect;
+              import org.hibernate.dialect.PostgreSQL95Dialect;
+
+              import java.util.Properties;
+
+              class HibernateConfig {
+                  Class<? extends Dialect> dialect = PostgreSQL95Dialect.class;
+
+                  void configure(Properties properties) {
+                      properties.put("hibernate.dialect", "org.hibernate.dialect.MySQL57Dialect");
+                  }
+              }
+              """,
+            """
+              import org.hibernate.dialect.Dialect;
+              import org.hibernate.dialect.PostgreSQLDialect;
+
+              import java.util.Properties;
+
+              class HibernateConfig {
+                  Class<? extends Dialect> dialect = PostgreSQLDialect.class;
+
+                  void configure(Properties properties) {
+                      properties.put("hibernate.dialect", "org.hibernate.dialect.MySQLDialect");
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void replacesDialectInPersistenceXml() {
+        rewriteRun(
+          //language=xml
+          xml(
+            """
+              <persistence xmlns="https://jakarta.ee/xml/ns/persistence" version="3.0">
+                  <persistence-unit name="default">
+                      <properties>
+                          <property name="hibernate.dialect" value="org.hibernate.dialect.Oracle12cDialect"/>
+                      </properties>
+                  </persistence-unit>
+              </persistence>
+              """,
+            """
+              <persistence xmlns="https://jakarta.ee/xml/ns/persistence" version="3.0">
+                  <persistence-unit name="default">
+                      <properties>
+                          <property name="hibernate.dialect" value="org.hibernate.dialect.OracleDialect"/>
+                      </properties>
+                  </persistence-unit>
+              </persistence>
+              """,
+            s -> s.path("src/main/resources/META-INF/persistence.xml")
+          )
+        );
+    }
+
+    @Test
+    void replacesDialectInHibernateCfgXml() {
+        rewriteRun(
+          //language=xml
+          xml(
+            """
+              <hibernate-configuration>
+                  <session-factory>
+                      <property name="hibernate.dialect">org.hibernate.dialect.SQLServer2012Dialect</property>
+                  </session-factory>
+              </hibernate-configuration>
+              """,
+            """
+              <hibernate-configuration>
+                  <session-factory>
+                      <property name="hibernate.dialect">org.hibernate.dialect.SQLServerDialect</property>
+                  </session-factory>
+              </hibernate-configuration>
+              """,
+            s -> s.path("src/main/resources/hibernate.cfg.xml")
+          )
+        );
+    }
+
     @Test
     void noChangeWhenAlreadyGeneric() {
         rewriteRun(
@@ -124,4 +218,60 @@ class MigrateDialectTest implements RewriteTest {
           )
         );
     }
+
+    @Test
+    void replacesDialectOfAnySettingOrDocument() {
+        rewriteRun(
+          properties(
+            """
+            quarkus.hibernate-orm.dialect=org.hibernate.dialect.MySQL5Dialect
+            """,
+            """
+            quarkus.hibernate-orm.dialect=org.hibernate.dialect.MySQLDialect
+            """,
+            s -> s.path("src/main/resources/application.properties")
+          ),
+          yaml(
+            """
+            datasources:
+              reporting:
+                dialect: org.hibernate.dialect.PostgreSQL95Dialect
+            """,
+            """
+            datasources:
+              reporting:
+                dialect: org.hibernate.dialect.PostgreSQLDialect
+            """,
+            s -> s.path("src/main/resources/application.yml")
+          ),
+          //language=xml
+          xml(
+            """
+            <beans>
+              <bean id="sessionFactory" class="org.springframework.orm.hibernate5.LocalSessionFactoryBean">
+                <property name="hibernateProperties">
+                  <props>
+                    <prop key="hibernate.dialect">org.hibernate.dialect.Oracle12cDialect</prop>
+                  </props>
+                </property>
+              </bean>
+              <bean id="dialect" class="org.hibernate.dialect.SQLServer2012Dialect"/>
+            </beans>
+            """,
+            """
+            <beans>
+              <bean id="sessionFactory" class="org.springframework.orm.hibernate5.LocalSessionFactoryBean">
+                <property name="hibernateProperties">
+                  <props>
+                    <prop key="hibernate.dialect">org.hibernate.dialect.OracleDialect</prop>
+                  </props>
+                </property>
+              </bean>
+              <bean id="dialect" class="org.hibernate.dialect.SQLServerDialect"/>
+            </beans>
+            """,
+            s -> s.path("src/main/resources/applicationContext.xml")
+          )
+        );
+    }
 }
@@ -0,0 +1,170 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.hibernate;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.openrewrite.maven.Assertions.pomXml;
+
+class MigrateHibernateCoordinates60Test implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new MigrateHibernateCoordinates60());
+    }
+
+    @DocumentExample
+    @Test
+    void migrateAllCoordinatesAndSharedVersionProperty() {
+        rewriteRun(
+          //language=xml
+          pomXml(
+            """
+              <project>
+                <groupId>org.example</groupId>
+                <artifactId>a</artifactId>
+                <version>1.0.0</version>
+                <properties>
+                  <hibernate.version>5.6.15.Final</hibernate.version>
+                </properties>
+                <dependencies>
+                  <dependency>
+                    <groupId>org.hibernate</groupId>
+                    <artifactId>hibernate-core-jakarta</artifactId>
+                    <version>${hibernate.version}</version>
+                  </dependency>
+                  <dependency>
+                    <groupId>org.hibernate</groupId>
+                    <artifactId>hibernate-envers</artifactId>
+                    <version>${hibernate.version}</version>
+                  </dependency>
+                  <dependency>
+                    <groupId>org.hibernate</groupId>
+                    <artifactId>hibernate-entitymanager</artifactId>
+                    <version>${hibernate.version}</version>
+                  </dependency>
+                  <dependency>
+                    <groupId>org.hibernate</groupId>
+                    <artifactId>hibernate-validator</artifactId>
+                    <version>6.2.5.Final</version>
+                  </dependency>
+                </dependencies>
+              </project>
+              """,
+            spec -> spec.after(after -> {
+                Matcher version = Pattern.compile("<hibernate.version>(6\\.0\\.[^<]+)</hibernate.version>").matcher(after);
+                assertThat(version.find()).isTrue();
+                Matcher validator = Pattern.compile("<version>(8\\.0\\.[^<]+)</version>").matcher(after);
+                assertThat(validator.find()).isTrue();
+                return """
+                  <project>
+                    <groupId>org.example</groupId>
+                    <artifactId>a</artifactId>
+                    <version>1.0.0</version>
+                    <properties>
+                      <hibernate.version>%s</hibernate.version>
+                    </properties>
+                    <dependencies>
+                      <dependency>
+                        <groupId>org.hibernate.orm</groupId>
+                        <artifactId>hibernate-core</artifactId>
+                        <version>${hibernate.version}</version>
+                      </dependency>
+                      <dependency>
+                        <groupId>org.hibernate.orm</groupId>
+                        <artifactId>hibernate-envers</artifactId>
+                        <version>${hibernate.version}</version>
+                      </dependency>
+                      <dependency>
+                        <groupId>org.hibernate.validator</groupId>
+                        <artifactId>hibernate-validator</artifactId>
+                        <version>%s</version>
+                      </dependency>
+                    </dependencies>
+                  </project>
+                  """.formatted(version.group(1), validator.group(1));
+            })
+          )
+        );
+    }
+
+    @Test
+    void removeManagedEntityManager() {
+        rewriteRun(
+          //language=xml
+          pomXml(
+            """
+              <project>
+                <groupId>org.example</groupId>
+                <artifactId>a</artifactId>
+                <version>1.0.0</version>
+                <dependencyManagement>
+                  <dependencies>
+                    <dependency>
+                      <groupId>org.hibernate</groupId>
+                      <artifactId>hibernate-entitymanager</artifactId>
+                      <version>5.6.15.Final</version>
+                    </dependency>
+                  </dependencies>
+                </dependencyManagement>
+              </project>
+              """,
+            """
+              <project>
+                <groupId>org.example</groupId>
+                <artifactId>a</artifactId>
+                <version>1.0.0</version>
+              </project>
+              """
+          )
+        );
+    }
+
+    @Test
+    void leaveOtherGroupsAlone() {
+        rewriteRun(
+          //language=xml
+          pomXml(
+            """
+              <project>
+                <groupId>org.example</groupId>
+                <artifactId>a</artifactId>
+                <version>1.0.0</version>
+                <dependencies>
+                  <dependency>
+                    <groupId>org.hibernate.orm</groupId>
+                    <artifactId>hibernate-core</artifactId>
+                    <version>6.0.2.Final</version>
+                  </dependency>
+                  <dependency>
+                    <groupId>org.hibernate.common</groupId>
+                    <artifactId>hibernate-commons-annotations</artifactId>
+                    <version>6.0.6.Final</version>
+                  </dependency>
+                </dependencies>
+              </project>
+              """
+          )
+        );
+    }
+}
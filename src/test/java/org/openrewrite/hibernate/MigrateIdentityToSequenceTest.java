@@ -0,0 +1,227 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.hibernate;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.hibernate.table.IdentityToSequenceDdl;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.openrewrite.java.Assertions.java;
+import static org.openrewrite.properties.Assertions.properties;
+
+class MigrateIdentityToSequenceTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new MigrateIdentityToSequence(null))
+          .parser(JavaParser.fromJavaVersion()
+            .classpathFromResources(new InMemoryExecutionContext(), "jakarta.persistence-api")
+          );
+    }
+
+    @DocumentExample
+    @Test
+    void identityBecomesPooledSequence() {
+        rewriteRun(
+          spec -> spec.dataTable(IdentityToSequenceDdl.Row.class, rows -> assertThat(rows)
+            .singleElement()
+            .satisfies(row -> {
+                assertThat(row.getEntity()).isEqualTo("com.acme.PurchaseOrder");
+                assertThat(row.getTable()).isEqualTo("purchase_order");
+                assertThat(row.getSequence()).isEqualTo("purchase_order_seq");
+                assertThat(row.getCreateSequence()).isEqualTo("create sequence purchase_order_seq start with 1 increment by 50");
+                assertThat(row.getSeedSequence())
+                  .isEqualTo("select setval('purchase_order_seq', (select coalesce(max(order_id), 0) + 50 from purchase_order));");
+            })),
+          properties(
+            """
+            spring.jpa.database-platform=org.hibernate.dialect.PostgreSQLDialect
+            """,
+            s -> s.path("src/main/resources/application.properties")
+          ),
+          //language=java
+          java(
+            """
+              package com.acme;
+
+              import jakarta.persistence.*;
+
+              @Entity
+              public class PurchaseOrder {
+                  @Id
+                  @GeneratedValue(strategy = GenerationType.IDENTITY)
+                  @Column(name = "order_id")
+                  private Long id;
+              }
+              """,
+            """
+              package com.acme;
+
+              import jakarta.persistence.*;
+
+              @Entity
+              public class PurchaseOrder {
+                  @Id
+                  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "purchase_order_seq")
+                  @SequenceGenerator(name = "purchase_order_seq", sequenceName = "purchase_order_seq", allocationSize = 50)
+                  @Column(name = "order_id")
+                  private Long id;
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void seedInTwoStepsWhereRestartTakesOnlyConstants() {
+        rewriteRun(
+          spec -> spec.dataTable(IdentityToSequenceDdl.Row.class, rows -> assertThat(rows)
+            .singleElement()
+            .satisfies(row -> assertThat(row.getSeedSequence()).isEqualTo(
+              "select coalesce(max(id), 0) + 51 from customer; alter sequence customer_seq restart with <result>;"))),
+          properties(
+            """
+            hibernate.dialect=org.hibernate.dialect.H2Dialect
+            """,
+            s -> s.path("src/main/resources/hibernate.properties")
+          ),
+          //language=java
+          java(
+            """
+              import jakarta.persistence.*;
+
+              @Entity
+              public class Customer {
+                  @Id
+                  @GeneratedValue(strategy = GenerationType.IDENTITY)
+                  private Long id;
+              }
+              """,
+            """
+              import jakarta.persistence.*;
+
+              @Entity
+              public class Customer {
+                  @Id
+                  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "customer_seq")
+                  @SequenceGenerator(name = "customer_seq", sequenceName = "customer_seq", allocationSize = 50)
+                  private Long id;
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepIdentityOfMappedSuperclass() {
+        rewriteRun(
+          properties(
+            """
+            spring.jpa.database-platform=org.hibernate.dialect.PostgreSQLDialect
+            """,
+            s -> s.path("src/main/resources/application.properties")
+          ),
+          //language=java
+          java(
+            """
+              import jakarta.persistence.*;
+
+              @MappedSuperclass
+              public abstract class BaseEntity {
+                  @Id
+                  @GeneratedValue(strategy = GenerationType.IDENTITY)
+                  private Long id;
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepIdentityWhenADialectHasNoSequences() {
+        rewriteRun(
+          properties(
+            """
+            hibernate.dialect=org.hibernate.dialect.MySQLDialect
+            """,
+            s -> s.path("src/main/resources/hibernate.properties")
+          ),
+          //language=java
+          java(
+            """
+              import jakarta.persistence.*;
+
+              @Entity
+              public class Customer {
+                  @Id
+                  @GeneratedValue(strategy = GenerationType.IDENTITY)
+                  private Long id;
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepIdentityOfAttributeThatIsNotTheId() {
+        rewriteRun(
+          spec -> spec.dataTable(IdentityToSequenceDdl.Row.class, rows -> assertThat(rows)
+            .singleElement()
+            .satisfies(row -> assertThat(row.getSequence()).isEqualTo("customer_seq"))),
+          properties(
+            """
+            hibernate.dialect=org.hibernate.dialect.PostgreSQLDialect
+            """,
+            s -> s.path("src/main/resources/hibernate.properties")
+          ),
+          //language=java
+          java(
+            """
+              import jakarta.persistence.*;
+
+              @Entity
+              public class Customer {
+                  @Id
+                  @GeneratedValue(strategy = GenerationType.IDENTITY)
+                  private Long id;
+
+                  @GeneratedValue(strategy = GenerationType.IDENTITY)
+                  private Long number;
+              }
+              """,
+            """
+              import jakarta.persistence.*;
+
+              @Entity
+              public class Customer {
+                  @Id
+                  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "customer_seq")
+                  @SequenceGenerator(name = "customer_seq", sequenceName = "customer_seq", allocationSize = 50)
+                  private Long id;
+
+                  @GeneratedValue(strategy = GenerationType.IDENTITY)
+                  private Long number;
+              }
+              """
+          )
+        );
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.hibernate;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.java;
+
+class MigrateSessionMethodNamesTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new MigrateSessionMethodNames())
+          .parser(JavaParser.fromJavaVersion()
+            .classpathFromResources(new InMemoryExecutionContext(), "hibernate-core-5+", "javax.persistence-api"));
+    }
+
+    @DocumentExample
+    @Test
+    void renamesAllSessionMethodsInOnePass() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.hibernate.Session;
+
+              import java.util.List;
+
+              class MyDao {
+                  void saveAll(Session session, List<Object> entities) {
+                      entities.forEach(session::save);
+                  }
+
+                  Object replace(Session session, Object entity) {
+                      session.delete(entity);
+                      session.save("MyEntity", entity);
+                      return session.get(String.class, "id");
+                  }
+
+                  Object reference(Session session) {
+                      return session.load(String.class, "id");
+                  }
+              }
+              """,
+            """
+              import org.hibernate.Session;
+
+              import java.util.List;
+
+              class MyDao {
+                  void saveAll(Session session, List<Object> entities) {
+                      entities.forEach(session::persist);
+                  }
+
+                  Object replace(Session session, Object entity) {
+                      session.remove(entity);
+                      session.persist("MyEntity", entity);
+                      return session.find(String.class, "id");
+                  }
+
+                  Object reference(Session session) {
+                      return session.getReference(String.class, "id");
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void leavesOtherMethodsWithTheSameNameAlone() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.util.HashMap;
+              import java.util.Map;
+
+              class MyCache {
+                  Map<String, Object> cache = new HashMap<>();
+
+                  Object load(String key) {
+                      return cache.get(key);
+                  }
+              }
+              """
+          )
+        );
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.hibernate;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.java;
+
+/**
+ * Every case runs both the fused recipe and the sequential recipes it replaces, against the same expected output.
+ */
+class MigrateTypeAnnotationsTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.parser(JavaParser.fromJavaVersion()
+          .classpathFromResources(new InMemoryExecutionContext(), "hibernate-core-5+", "jakarta.persistence-api"));
+    }
+
+    private static void fusedOrSequential(RecipeSpec spec, boolean fused) {
+        if (fused) {
+            spec.recipe(new MigrateTypeAnnotations());
+        } else {
+            spec.recipes(new MigrateBooleanMappings(), new TypeAnnotationParameter());
+        }
+    }
+
+    @DocumentExample
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void booleanMappingAndTypeDefAlias(boolean fused) {
+        rewriteRun(
+          spec -> fusedOrSequential(spec, fused),
+          //language=java
+          java(
+            """
+              import org.hibernate.annotations.Type;
+              import org.hibernate.annotations.TypeDef;
+
+              @TypeDef(name = "stringy", typeClass = String.class)
+              class TestApplication {
+                  @Type(type = "stringy")
+                  Object a;
+
+                  @Type(type = "yes_no")
+                  boolean b;
+              }
+              """,
+            """
+              import jakarta.persistence.Convert;
+              import org.hibernate.annotations.Type;
+              import org.hibernate.type.YesNoConverter;
+
+              class TestApplication {
+                  @Type(String.class)
+                  Object a;
+
+                  @Convert(converter = YesNoConverter.class)
+                  boolean b;
+              }
+              """
+          )
+        );
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void booleanMappingTemporalAndRemovedType(boolean fused) {
+        rewriteRun(
+          spec -> fusedOrSequential(spec, fused),
+          //language=java
+          java(
+            """
+              import org.hibernate.annotations.Type;
+
+              import java.util.Date;
+
+              class TestApplication {
+                  @Type(type = "true_false")
+                  boolean a;
+
+                  @Type(type = "timestamp")
+                  Date b;
+
+                  @Type(type = "org.hibernate.type.TextType")
+                  String c;
+              }
+              """,
+            """
+              import jakarta.persistence.Convert;
+              import jakarta.persistence.Temporal;
+              import jakarta.persistence.TemporalType;
+              import org.hibernate.type.TrueFalseConverter;
+
+              import java.util.Date;
+
+              class TestApplication {
+                  @Convert(converter = TrueFalseConverter.class)
+                  boolean a;
+
+                  @Temporal(TemporalType.TIMESTAMP)
+                  Date b;
+                 \s
+                  String c;
+              }
+              """
+          )
+        );
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.hibernate;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.java;
+import static org.openrewrite.properties.Assertions.properties;
+import static org.openrewrite.yaml.Assertions.yaml;
+
+class PinHibernate5IdGenerationTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new PinHibernate5IdGeneration())
+          .parser(JavaParser.fromJavaVersion()
+            .classpathFromResources(new InMemoryExecutionContext(), "jakarta.persistence-api")
+          );
+    }
+
+    @DocumentExample
+    @Test
+    void pinSharedHibernateSequence() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import jakarta.persistence.*;
+
+              @Entity
+              public class Customer {
+                  @Id
+                  @GeneratedValue
+                  private Long id;
+              }
+              """,
+            """
+              import jakarta.persistence.*;
+
+              @Entity
+              public class Customer {
+                  @Id
+                  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "hibernate_sequence")
+                  @SequenceGenerator(name = "hibernate_sequence", sequenceName = "hibernate_sequence", allocationSize = 1)
+                  private Long id;
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void legacyMappingsUseIdentityOnMySql() {
+        rewriteRun(
+          yaml(
+            """
+            spring:
+              jpa:
+                database-platform: org.hibernate.dialect.MySQL57Dialect
+                hibernate:
+                  use-new-id-generator-mappings: false
+            """,
+            s -> s.path("src/main/resources/application.yml")
+          ),
+          //language=java
+          java(
+            """
+              import jakarta.persistence.*;
+
+              @Entity
+              public class Customer {
+                  @Id
+                  @GeneratedValue(strategy = GenerationType.AUTO)
+                  private Long id;
+              }
+              """,
+            """
+              import jakarta.persistence.*;
+
+              @Entity
+              public class Customer {
+                  @Id
+                  @GeneratedValue(strategy = GenerationType.IDENTITY)
+                  private Long id;
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void leaveNamedGeneratorsUuidsAndNonIdsAlone() {
+        rewriteRun(
+          properties(
+            """
+            hibernate.id.new_generator_mappings=true
+            """,
+            s -> s.path("src/main/resources/hibernate.properties")
+          ),
+          //language=java
+          java(
+            """
+              import jakarta.persistence.*;
+              import java.util.UUID;
+
+              @Entity
+              public class Invoice {
+                  @Id
+                  @GeneratedValue(generator = "invoice_seq")
+                  @SequenceGenerator(name = "invoice_seq", allocationSize = 20)
+                  private Long id;
+                  @Id
+                  @GeneratedValue
+                  private UUID reference;
+                  @GeneratedValue
+                  private Long number;
+              }
+              """
+          )
+        );
+    }
+}
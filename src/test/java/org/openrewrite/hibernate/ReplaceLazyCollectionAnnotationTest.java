@@ -270,7 +270,7 @@ class ReplaceLazyCollectionAnnotationTest implements RewriteTest {
     }
 
     @Test
-    void methodAnnotation_shouldNotBeUpdated_whenLazyCollectionOptionIsExtra() {
+    void methodAnnotation_shouldBeLazy_whenLazyCollectionOptionIsExtra() {
         //language=java
         rewriteRun(
           java(
@@ -292,13 +292,30 @@ class ReplaceLazyCollectionAnnotationTest implements RewriteTest {
                       return items;
                   }
               }
+              """,
+            """
+              import jakarta.persistence.ElementCollection;
+              import jakarta.persistence.FetchType;
+              
+              import java.util.HashSet;
+              import java.util.Set;
+              
+              class SomeClass {
+              
+                  private Set<Object> items;
+              
+                  @ElementCollection(fetch = FetchType.LAZY)
+                  public Set<Object> getItems() {
+                      return items;
+                  }
+              }
               """
           )
         );
     }
 
     @Test
-    void fieldAnnotation_shouldNotBeUpdated_whenLazyCollectionOptionIsExtra() {
+    void fieldAnnotation_shouldBeLazy_whenLazyCollectionOptionIsExtra() {
         //language=java
         rewriteRun(
           java(
@@ -316,6 +333,19 @@ class ReplaceLazyCollectionAnnotationTest implements RewriteTest {
                   @ElementCollection
                   private Set<Object> items;
               }
+              """,
+            """
+              import jakarta.persistence.ElementCollection;
+              import jakarta.persistence.FetchType;
+              
+              import java.util.HashSet;
+              import java.util.Set;
+              
+              class SomeClass {
+              
+                  @ElementCollection(fetch = FetchType.LAZY)
+                  private Set<Object> items;
+              }
               """
           )
         );
@@ -401,8 +431,6 @@ class ReplaceLazyCollectionAnnotationTest implements RewriteTest {
               }
               """,
             """
-              import org.hibernate.annotations.LazyCollection;
-              import org.hibernate.annotations.LazyCollectionOption;
               import jakarta.persistence.ElementCollection;
               import jakarta.persistence.FetchType;
               import jakarta.persistence.ManyToMany;
@@ -415,8 +443,7 @@ class ReplaceLazyCollectionAnnotationTest implements RewriteTest {
                   private Set<Object> items1;
                   private Set<Object> items2;
               
-                  @ElementCollection
-                  @LazyCollection(LazyCollectionOption.EXTRA)
+                  @ElementCollection(fetch = FetchType.LAZY)
                   private Set<Object> items3;
               
                   @ElementCollection(fetch = FetchType.LAZY)
@@ -493,4 +520,136 @@ class ReplaceLazyCollectionAnnotationTest implements RewriteTest {
           )
         );
     }
+
+    @Test
+    void extraLazyCollectionCallSites_shouldQueryInsteadOfInitializing() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.hibernate.annotations.LazyCollection;
+              import org.hibernate.annotations.LazyCollectionOption;
+              import jakarta.persistence.OneToMany;
+              
+              import java.util.Set;
+              
+              class Order {
+              
+                  @OneToMany
+                  @LazyCollection(LazyCollectionOption.EXTRA)
+                  private Set<Object> lines;
+              
+                  public Set<Object> getLines() {
+                      return lines;
+                  }
+              
+                  public boolean hasLines() {
+                      return !lines.isEmpty();
+                  }
+              }
+              """,
+            """
+              import jakarta.persistence.FetchType;
+              import jakarta.persistence.OneToMany;
+              import org.hibernate.Hibernate;
+              
+              import java.util.Set;
+              
+              class Order {
+              
+                  @OneToMany(fetch = FetchType.LAZY)
+                  private Set<Object> lines;
+              
+                  public Set<Object> getLines() {
+                      return lines;
+                  }
+              
+                  public boolean hasLines() {
+                      return Hibernate.size(lines) > 0;
+                  }
+              }
+              """
+          ),
+          //language=java
+          java(
+            """
+              class OrderService {
+              
+                  String describe(Order order, Object line) {
+                      if (order.getLines().isEmpty()) {
+                          return "empty";
+                      }
+                      return order.getLines().size() + " lines, " + order.getLines().contains(line);
+                  }
+              }
+              """,
+            """
+              import org.hibernate.Hibernate;
+              
+              class OrderService {
+              
+                  String describe(Order order, Object line) {
+                      if (Hibernate.size(order.getLines()) == 0) {
+                          return "empty";
+                      }
+                      return Hibernate.size(order.getLines()) + " lines, " + Hibernate.contains(order.getLines(), line);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void collectionCallSites_shouldNotBeUpdated_whenCollectionIsNotExtraLazy() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.hibernate.annotations.LazyCollection;
+              import jakarta.persistence.OneToMany;
+
+              import java.util.Set;
+
+              class Order {
+
+                  @OneToMany
+                  @LazyCollection
+                  private Set<Object> lines;
+
+                  public Set<Object> getLines() {
+                      return lines;
+                  }
+              }
+              """,
+            """
+              import jakarta.persistence.FetchType;
+              import jakarta.persistence.OneToMany;
+
+              import java.util.Set;
+
+              class Order {
+
+                  @OneToMany(fetch = FetchType.LAZY)
+                  private Set<Object> lines;
+
+                  public Set<Object> getLines() {
+                      return lines;
+                  }
+              }
+              """
+          ),
+          //language=java
+          java(
+            """
+              class OrderService {
+
+                  int count(Order order) {
+                      return order.getLines().size();
+                  }
+              }
+              """
+          )
+        );
+    }
 }
@@ -324,4 +324,102 @@ class TypeAnnotationParameterTest implements RewriteTest {
         );
     }
 
+    @Test
+    void adoptTypeDefClassFromOtherSourceFile() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              package com.example;
+
+              import org.hibernate.annotations.TypeDef;
+              import java.util.concurrent.atomic.AtomicBoolean;
+
+              @TypeDef(name = "bool", typeClass = AtomicBoolean.class)
+              class BaseEntity {
+              }
+              """,
+            """
+              package com.example;
+
+              import java.util.concurrent.atomic.AtomicBoolean;
+
+              class BaseEntity {
+              }
+              """
+          ),
+          //language=java
+          java(
+            """
+              package com.example;
+
+              import org.hibernate.annotations.Type;
+
+              class MyEntity extends BaseEntity {
+                  @Type(type = "bool")
+                  Object a;
+              }
+              """,
+            """
+              package com.example;
+
+              import org.hibernate.annotations.Type;
+
+              import java.util.concurrent.atomic.AtomicBoolean;
+
+              class MyEntity extends BaseEntity {
+                  @Type(AtomicBoolean.class)
+                  Object a;
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void adoptTypeDefClassFromPackageInfo() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              @TypeDef(name = "bool", typeClass = AtomicBoolean.class)
+              package com.example;
+
+              import org.hibernate.annotations.TypeDef;
+              import java.util.concurrent.atomic.AtomicBoolean;
+              """,
+            """
+              package com.example;
+
+              import java.util.concurrent.atomic.AtomicBoolean;
+              """,
+            spec -> spec.path("com/example/package-info.java")
+          ),
+          //language=java
+          java(
+            """
+              package com.example;
+
+              import org.hibernate.annotations.Type;
+
+              class MyEntity {
+                  @Type(type = "bool")
+                  Object a;
+              }
+              """,
+            """
+              package com.example;
+
+              import org.hibernate.annotations.Type;
+
+              import java.util.concurrent.atomic.AtomicBoolean;
+
+              class MyEntity {
+                  @Type(AtomicBoolean.class)
+                  Object a;
+              }
+              """
+          )
+        );
+    }
 }
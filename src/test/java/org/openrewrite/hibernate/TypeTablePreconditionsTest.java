@@ -0,0 +1,155 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.hibernate;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.java;
+
+class TypeTablePreconditionsTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.parser(JavaParser.fromJavaVersion().classpathFromResources(new InMemoryExecutionContext(), "hibernate-core-5+"));
+    }
+
+    @Test
+    void findsIndirectImplementation() {
+        rewriteRun(
+          spec -> spec.recipe(toRecipe(() -> TypeTablePreconditions.findImplementations("org.hibernate.Interceptor"))),
+          //language=java
+          java(
+            """
+              import org.hibernate.EmptyInterceptor;
+
+              class AuditInterceptor extends EmptyInterceptor {
+              }
+              """,
+            """
+              import org.hibernate.EmptyInterceptor;
+
+              /*~~>*/class AuditInterceptor extends EmptyInterceptor {
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void findsNestedImplementation() {
+        rewriteRun(
+          spec -> spec.recipe(toRecipe(() -> TypeTablePreconditions.findImplementations("org.hibernate.Interceptor"))),
+          //language=java
+          java(
+            """
+              import org.hibernate.EmptyInterceptor;
+
+              class Configuration {
+                  static class AuditInterceptor extends EmptyInterceptor {
+                  }
+              }
+              """,
+            """
+              import org.hibernate.EmptyInterceptor;
+
+              class Configuration {
+                  /*~~>*/static class AuditInterceptor extends EmptyInterceptor {
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void referencingTheTypeIsNotImplementingIt() {
+        rewriteRun(
+          spec -> spec.recipe(toRecipe(() -> TypeTablePreconditions.findImplementations("org.hibernate.Interceptor"))),
+          //language=java
+          java(
+            """
+              import org.hibernate.Interceptor;
+
+              class Configuration {
+                  Interceptor interceptor;
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void findsDeclaredMethod() {
+        rewriteRun(
+          spec -> spec.recipe(toRecipe(() -> TypeTablePreconditions.declaresMethod("* getSqlType()", true))),
+          //language=java
+          java(
+            """
+              class MoneyType {
+                  public int getSqlType() {
+                      return 0;
+                  }
+              }
+              """,
+            """
+              /*~~>*/class MoneyType {
+                  public int getSqlType() {
+                      return 0;
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void invokingTheMethodIsNotDeclaringIt() {
+        rewriteRun(
+          spec -> spec.recipe(toRecipe(() -> TypeTablePreconditions.declaresMethod("* getSqlType()", true))),
+          //language=java
+          java(
+            """
+              class MoneyType {
+                  public int getSqlType() {
+                      return 0;
+                  }
+              }
+              """,
+            """
+              /*~~>*/class MoneyType {
+                  public int getSqlType() {
+                      return 0;
+                  }
+              }
+              """
+          ),
+          //language=java
+          java(
+            """
+              class Mapping {
+                  int sqlType(MoneyType type) {
+                      return type.getSqlType();
+                  }
+              }
+              """
+          )
+        );
+    }
+}